@@ -73,10 +73,10 @@ public class AuthController {
                     .orElseThrow(() -> new IllegalStateException("User not found"));
         }
         
-        String jwt = jwtTokenProvider.generateToken(userDetails);
+        String jwt = jwtTokenProvider.generateToken(user);
         
         // Update last login timestamp
-        userService.updateLastLogin(loginRequest.getUsername());
+        userService.updateLastLogin(user.getId());
 
         AuthResponse authResponse = new AuthResponse(jwt, user);
         return ResponseEntity.ok(com.itss.projectmanagement.dto.common.ApiResponse.success(
@@ -204,8 +204,8 @@ public class AuthController {
                 );
             }
             
-            // Get current authenticated user
-            User currentUser = SecurityUtils.getCurrentUser();
+            // Load the current user, the authenticated principal only carries the token claims
+            User currentUser = userService.getUserEntityById(SecurityUtils.getCurrentUserId());
             
             passwordService.changePassword(currentUser, request.getCurrentPassword(), request.getNewPassword());
             
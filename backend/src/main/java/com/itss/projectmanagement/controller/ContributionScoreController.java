@@ -12,6 +12,7 @@ import com.itss.projectmanagement.service.IContributionScoreService;
 import com.itss.projectmanagement.service.IGroupService;
 import com.itss.projectmanagement.service.IProjectService;
 import com.itss.projectmanagement.service.IUserService;
+import com.itss.projectmanagement.utils.ProjectDataETags;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -36,6 +38,7 @@ public class ContributionScoreController {
     private final IProjectService projectService;
     private final IUserService userService;
     private final IGroupService groupService;
+    private final ProjectDataETags projectDataETags;
 
     @PostMapping("/calculate")
     @PreAuthorize("hasAnyAuthority('INSTRUCTOR', 'ADMIN')")
@@ -58,8 +61,12 @@ public class ContributionScoreController {
     @PreAuthorize("hasAnyAuthority('INSTRUCTOR', 'ADMIN')")
     @Operation(summary = "Get all contribution scores for a project", 
                description = "Returns the latest calculated contribution scores for all users in a project. Restricted to instructors and admins.")
-    public ResponseEntity<ApiResponse<List<ContributionScoreResponse>>> getScoresByProject(@PathVariable Long projectId) {
+    public ResponseEntity<ApiResponse<List<ContributionScoreResponse>>> getScoresByProject(@PathVariable Long projectId,
+                                                                                           WebRequest webRequest) {
         Project project = projectService.getProjectEntityById(projectId);
+        if (projectDataETags.checkNotModified(webRequest, projectId, "scores")) {
+            return null;
+        }
         
         List<ContributionScoreResponse> scores = contributionScoreService.getScoresByProject(project);
         
@@ -83,7 +90,8 @@ public class ContributionScoreController {
     public ResponseEntity<ApiResponse<ContributionScoreResponse>> getScoreByUserAndProject(
             @PathVariable Long projectId,
             @PathVariable Long userId,
-            @AuthenticationPrincipal User currentUser) {
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
         
         Project project = projectService.getProjectEntityById(projectId);
         
@@ -93,6 +101,9 @@ public class ContributionScoreController {
         if (!hasPermissionToViewScore(currentUser, user, projectId)) {
             throw new ForbiddenException("You don't have permission to view this score");
         }
+        if (projectDataETags.checkNotModified(webRequest, projectId, "score-" + userId)) {
+            return null;
+        }
         
         ContributionScoreResponse score = contributionScoreService.getScoreByUserAndProject(user, project);
         
@@ -108,7 +119,8 @@ public class ContributionScoreController {
     @PreAuthorize("hasAnyAuthority('INSTRUCTOR', 'ADMIN', 'STUDENT')")
     @Operation(summary = "Get all contribution scores for a group", 
                description = "Returns the latest calculated contribution scores for all users in a group. Student can only see scores of his group.")
-    public ResponseEntity<ApiResponse<List<ContributionScoreResponse>>> getScoresByGroup(@PathVariable Long groupId) {
+    public ResponseEntity<ApiResponse<List<ContributionScoreResponse>>> getScoresByGroup(@PathVariable Long groupId,
+                                                                                         WebRequest webRequest) {
         User currentUser = SecurityUtils.getCurrentUser();
         Group group = groupService.getGroupEntityById(groupId);
 
@@ -119,6 +131,9 @@ public class ContributionScoreController {
                 throw new ForbiddenException("You dont't have permission to view this score");
             }
         }
+        if (projectDataETags.checkNotModified(webRequest, group.getProject().getId(), "group-scores-" + groupId)) {
+            return null;
+        }
         List<ContributionScoreResponse> scores = contributionScoreService.getScoresByGroup(groupId);
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("count", scores.size());
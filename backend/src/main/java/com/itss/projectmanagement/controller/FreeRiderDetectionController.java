@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +35,7 @@ public class FreeRiderDetectionController {
                         .success(true)
                         .message("Free riders detected successfully")
                         .data(freeRiderDTOs)
+                        .metadata(freshnessMetadata(projectId))
                         .build()
         );
     }
@@ -71,6 +73,7 @@ public class FreeRiderDetectionController {
                         .success(true)
                         .message("Free rider risk scores retrieved successfully")
                         .data(riskScores)
+                        .metadata(freshnessMetadata(projectId))
                         .build()
         );
     }
@@ -179,4 +182,15 @@ public class FreeRiderDetectionController {
                         .build()
         );
     }
+
+    /**
+     * Metadata telling clients when the stored risk scores were computed
+     * @param projectId Project ID
+     * @return Metadata map with the computation time
+     */
+    private Map<String, Object> freshnessMetadata(Long projectId) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("computedAt", freeRiderDetectionService.getRiskScoresComputedAt(projectId));
+        return metadata;
+    }
 }
@@ -3,12 +3,14 @@ package com.itss.projectmanagement.controller;
 import com.itss.projectmanagement.dto.response.notification.NotificationResponseDTO;
 import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.service.INotificationCrudService;
-import com.itss.projectmanagement.service.IUserService;
 import com.itss.projectmanagement.utils.SecurityUtils;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -16,22 +18,24 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/notifications")
+@Validated
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationController {
 
     private final INotificationCrudService notificationService;
-    private final IUserService userService;
 
     /**
-     * Get all notifications for the current user
+     * Get one page of notifications for the current user, newest first.
+     * Pass the nextCursor of a page to get the page after it.
      */
     @GetMapping
     @PreAuthorize("hasAnyAuthority('STUDENT', 'INSTRUCTOR', 'ADMIN')")
-    public ResponseEntity<NotificationResponseDTO> getNotifications() {
-        User user = userService.getUserById(SecurityUtils.getCurrentUser().getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        NotificationResponseDTO response = notificationService.getUserNotifications(user);
+    public ResponseEntity<NotificationResponseDTO> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        // Only the user id is needed, so the principal from the token is used without reloading the user
+        NotificationResponseDTO response = notificationService.getUserNotifications(SecurityUtils.getCurrentUser(), cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -43,8 +47,7 @@ public class NotificationController {
     public ResponseEntity<Map<String, Object>> markAsRead(
             @PathVariable("id") Long notificationId
     ) {
-        User user = userService.getUserById(SecurityUtils.getCurrentUser().getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = SecurityUtils.getCurrentUser();
         boolean success = notificationService.markAsRead(user, notificationId);
         
         Map<String, Object> response = new HashMap<>();
@@ -60,8 +63,7 @@ public class NotificationController {
     @PutMapping("/read-all")
     @PreAuthorize("hasAnyAuthority('STUDENT', 'INSTRUCTOR', 'ADMIN')")
     public ResponseEntity<Map<String, Object>> markAllAsRead() {
-        User user = userService.getUserById(SecurityUtils.getCurrentUser().getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = SecurityUtils.getCurrentUser();
         boolean success = notificationService.markAllAsRead(user);
         
         Map<String, Object> response = new HashMap<>();
@@ -79,8 +81,7 @@ public class NotificationController {
     public ResponseEntity<Map<String, Object>> deleteNotification(
             @PathVariable("id") Long notificationId
     ) {
-        User user = userService.getUserById(SecurityUtils.getCurrentUser().getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = SecurityUtils.getCurrentUser();
         boolean success = notificationService.deleteNotification(user, notificationId);
         
         Map<String, Object> response = new HashMap<>();
@@ -2,15 +2,18 @@ package com.itss.projectmanagement.controller;
 
 import com.itss.projectmanagement.dto.common.ApiResponse;
 import com.itss.projectmanagement.dto.request.peer.PeerReviewRequest;
+import com.itss.projectmanagement.dto.response.peer.PeerReviewAnalyticsDTO;
 import com.itss.projectmanagement.dto.response.peer.PeerReviewResponse;
 import com.itss.projectmanagement.dto.response.user.UserDTO;
 import com.itss.projectmanagement.dto.response.user.UserSummaryDTO;
+import com.itss.projectmanagement.enums.ReportFormat;
 import com.itss.projectmanagement.exception.UnauthorizedAccessException;
 import com.itss.projectmanagement.exception.ValidationException;
 import com.itss.projectmanagement.security.CurrentUser;
 import com.itss.projectmanagement.security.UserPrincipal;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import com.itss.projectmanagement.service.IFreeRiderDetectionService;
+import com.itss.projectmanagement.service.IPeerReviewAnalyticsService;
 import com.itss.projectmanagement.service.IPeerReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -21,6 +24,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -33,6 +37,7 @@ public class PeerReviewController {
 
     private final IPeerReviewService peerReviewService;
     private final IFreeRiderDetectionService freeRiderDetectionService;
+    private final IPeerReviewAnalyticsService peerReviewAnalyticsService;
 
     @PostMapping
     @Operation(summary = "Submit a peer review")
@@ -147,6 +152,18 @@ public class PeerReviewController {
         return ResponseEntity.ok(ApiResponse.success(completed, "Checked completion status successfully"));
     }
 
+    @GetMapping("/analytics")
+    @Operation(summary = "Get peer review analytics of a project (review averages, dispersion and correlation with task completion)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Fetched peer review analytics successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @PreAuthorize("hasAuthority('INSTRUCTOR')")
+    public ResponseEntity<ApiResponse<PeerReviewAnalyticsDTO>> getPeerReviewAnalytics(@RequestParam Long projectId) {
+        PeerReviewAnalyticsDTO analytics = peerReviewAnalyticsService.getProjectAnalytics(projectId);
+        return ResponseEntity.ok(ApiResponse.success(analytics, "Fetched peer review analytics successfully"));
+    }
+
     @GetMapping("/free-riders")
     @Operation(summary = "Detect free riders in a project")
     @ApiResponses(value = {
@@ -188,4 +205,22 @@ public class PeerReviewController {
         String report = freeRiderDetectionService.generateFreeRiderReport(projectId);
         return ResponseEntity.ok(ApiResponse.success(report, "Generated free rider report successfully"));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/free-rider-report/download")
+    @Operation(summary = "Stream the free rider report of a project as text or CSV")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Free rider report streamed successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAuthority('INSTRUCTOR') or hasAuthority('STUDENT')")
+    public ResponseEntity<StreamingResponseBody> downloadFreeRiderReport(
+            @RequestParam Long projectId,
+            @RequestParam(defaultValue = "TEXT") ReportFormat format) {
+        StreamingResponseBody body = freeRiderDetectionService.streamFreeRiderReport(projectId, format);
+        return ResponseEntity.ok()
+                .header("Content-Type", format.getContentType())
+                .header("Content-Disposition", "attachment; filename=free-rider-report-" + projectId + "." + format.getExtension())
+                .body(body);
+    }
+}
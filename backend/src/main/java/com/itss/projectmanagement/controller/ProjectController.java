@@ -5,16 +5,21 @@ import com.itss.projectmanagement.dto.common.ApiResponse;
 import com.itss.projectmanagement.dto.request.project.ProjectAccessRequest;
 import com.itss.projectmanagement.dto.request.project.ProjectCreateRequest;
 import com.itss.projectmanagement.dto.request.project.ProjectInviteRequest;
+import com.itss.projectmanagement.dto.response.project.InstructorOverviewDTO;
 import com.itss.projectmanagement.dto.response.project.ProjectDTO;
 import com.itss.projectmanagement.dto.response.user.UserDTO;
 import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO;
 import com.itss.projectmanagement.dto.response.report.ProjectReportDTO;
 import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.ReportFormat;
 import com.itss.projectmanagement.exception.ForbiddenException;
 import com.itss.projectmanagement.exception.NotFoundException;
+import com.itss.projectmanagement.service.IInstructorOverviewService;
 import com.itss.projectmanagement.service.IProjectService;
+import com.itss.projectmanagement.service.IReportExportService;
 import com.itss.projectmanagement.service.IReportService;
-import com.itss.projectmanagement.service.IStatisticsService;
+import com.itss.projectmanagement.service.IStatisticsSnapshotService;
+import com.itss.projectmanagement.utils.ProjectDataETags;
 import com.itss.projectmanagement.utils.QRCodeGenerator;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +32,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -42,8 +49,11 @@ public class ProjectController {
     private final IProjectService projectService;
     private final UserConverter userConverter;
     private final IReportService reportService;
-    private final IStatisticsService statisticsService;
+    private final IReportExportService reportExportService;
+    private final IStatisticsSnapshotService statisticsSnapshotService;
+    private final IInstructorOverviewService instructorOverviewService;
     private final QRCodeGenerator qrCodeGenerator;
+    private final ProjectDataETags projectDataETags;
 
     @Operation(summary = "Create a new project", description = "Creates a new project for the current instructor")
     @ApiResponses(value = {
@@ -102,6 +112,24 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get instructor overview", description = "Retrieves headline metrics for all projects of the current instructor")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved instructor overview"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Only instructors can view the overview")
+    })
+    @GetMapping("/overview")
+    @PreAuthorize("hasAuthority('INSTRUCTOR')")
+    public ResponseEntity<ApiResponse<InstructorOverviewDTO>> getInstructorOverview() {
+        InstructorOverviewDTO overview = instructorOverviewService.getInstructorOverview();
+
+        ApiResponse<InstructorOverviewDTO> response = ApiResponse.success(
+                overview,
+                "Instructor overview retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Get project by ID", description = "Retrieves a project by its ID")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved project"),
@@ -172,8 +200,20 @@ public class ProjectController {
     @GetMapping("/{id}/report")
     @PreAuthorize("hasAuthority('INSTRUCTOR')")
     public ResponseEntity<ApiResponse<ProjectReportDTO>> getProjectReport(
-            @Parameter(description = "ID of the project") @PathVariable Long id) {
-        ProjectReportDTO reportData = reportService.getProjectReport(id);
+            @Parameter(description = "ID of the project") @PathVariable Long id,
+            @Parameter(description = "Page number (0-based); omit to get all members") @RequestParam(required = false) Integer page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        if (page != null && (page < 0 || size < 1)) {
+            throw new IllegalArgumentException("Page must be >= 0 and size must be >= 1");
+        }
+        // Unchanged project data: answer 304 before the report is built
+        if (projectDataETags.checkNotModified(webRequest, id, page != null ? "report-" + page + "-" + size : "report")) {
+            return null;
+        }
+        ProjectReportDTO reportData = page != null
+                ? reportService.getProjectReport(id, page, size)
+                : reportService.getProjectReport(id);
         
         ApiResponse<ProjectReportDTO> response = ApiResponse.success(
                 reportData,
@@ -183,6 +223,52 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Export project member report", description = "Streams the member report of a project as CSV or XLSX")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Member report streamed successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @GetMapping("/{id}/export/members")
+    @PreAuthorize("hasAuthority('INSTRUCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportMemberReports(
+            @Parameter(description = "ID of the project") @PathVariable Long id,
+            @Parameter(description = "CSV or XLSX") @RequestParam(defaultValue = "CSV") ReportFormat format) {
+        return download(reportExportService.exportMemberReports(id, format), "member-report-" + id, format);
+    }
+
+    @Operation(summary = "Export contribution scores", description = "Streams the contribution scores of a project as CSV or XLSX")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Contribution scores streamed successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @GetMapping("/{id}/export/contribution-scores")
+    @PreAuthorize("hasAuthority('INSTRUCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportContributionScores(
+            @Parameter(description = "ID of the project") @PathVariable Long id,
+            @Parameter(description = "CSV or XLSX") @RequestParam(defaultValue = "CSV") ReportFormat format) {
+        return download(reportExportService.exportContributionScores(id, format), "contribution-scores-" + id, format);
+    }
+
+    @Operation(summary = "Export commit summary", description = "Streams per-author commit totals of every group as CSV or XLSX")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Commit summary streamed successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @GetMapping("/{id}/export/commits")
+    @PreAuthorize("hasAuthority('INSTRUCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportCommitSummaries(
+            @Parameter(description = "ID of the project") @PathVariable Long id,
+            @Parameter(description = "CSV or XLSX") @RequestParam(defaultValue = "CSV") ReportFormat format) {
+        return download(reportExportService.exportCommitSummaries(id, format), "commit-summary-" + id, format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(StreamingResponseBody body, String fileName, ReportFormat format) {
+        return ResponseEntity.ok()
+                .header("Content-Type", format.getContentType())
+                .header("Content-Disposition", "attachment; filename=" + fileName + "." + format.getExtension())
+                .body(body);
+    }
+
     @Operation(summary = "Get project statistics", description = "Retrieves detailed statistics for a project")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved project statistics"),
@@ -191,7 +277,8 @@ public class ProjectController {
     @GetMapping("/{id}/statistics")
     @PreAuthorize("hasAuthority('INSTRUCTOR') or hasAuthority('STUDENT') or hasAuthority('ADMIN')")
     public ResponseEntity<ApiResponse<ProjectStatisticsDTO>> getProjectStatistics(
-            @Parameter(description = "ID of the project") @PathVariable Long id) {
+            @Parameter(description = "ID of the project") @PathVariable Long id,
+            WebRequest webRequest) {
         // Check if project exists
         Optional<ProjectDTO> project = projectService.getProjectById(id);
         if (project.isEmpty()) {
@@ -203,7 +290,14 @@ public class ProjectController {
             throw new ForbiddenException("Only group leaders or instructors can access project statistics");
         }
         
-        ProjectStatisticsDTO statistics = statisticsService.getProjectStatistics(id);
+        // The snapshot tag is part of the ETag: a background refresh changes the payload without a data change
+        String view = "statistics-" + statisticsSnapshotService.getSnapshotTag(id);
+        if (projectDataETags.checkNotModified(webRequest, id, view)) {
+            return null;
+        }
+
+        // Served from the latest snapshot; staleness is reported in the snapshot field
+        ProjectStatisticsDTO statistics = statisticsSnapshotService.getProjectStatistics(id);
         
         ApiResponse<ProjectStatisticsDTO> response = ApiResponse.success(
                 statistics,
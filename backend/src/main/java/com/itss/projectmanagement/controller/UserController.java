@@ -179,24 +179,33 @@ public class UserController {
         User existingUser = userService.getUserById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
         
+        // Changing anything the token carries (username, full name, email, roles, enabled flag) or the password
+        // revokes the tokens already issued
+        boolean revokeTokens = false;
+
         // Only update fields that are provided in the request
         if (request.getUsername() != null) {
+            revokeTokens |= !request.getUsername().equals(existingUser.getUsername());
             existingUser.setUsername(request.getUsername());
         }
         if (request.getFullName() != null) {
+            revokeTokens |= !request.getFullName().equals(existingUser.getFullName());
             existingUser.setFullName(request.getFullName());
         }
         if (request.getEmail() != null) {
+            revokeTokens |= !request.getEmail().equals(existingUser.getEmail());
             existingUser.setEmail(request.getEmail());
         }
         if (request.getPassword() != null) {
             // Password will be encoded in the service
             existingUser.setPassword(request.getPassword());
+            revokeTokens = true;
         }
         if (request.getAvatarUrl() != null) {
             existingUser.setAvatarUrl(request.getAvatarUrl());
         }
         if (request.getEnabled() != null) {
+            revokeTokens |= existingUser.isEnabled() != request.getEnabled();
             existingUser.setEnabled(request.getEnabled());
         }
 
@@ -205,10 +214,11 @@ public class UserController {
             if (!SecurityUtils.isAdmin()) {
                 throw new ForbiddenException("Only admins can update user roles");
             }
+            revokeTokens |= !request.getRoles().equals(existingUser.getRoles());
             existingUser.setRoles(request.getRoles());
         }
 
-        User updatedUser = userService.updateUser(existingUser);
+        User updatedUser = userService.updateUser(existingUser, revokeTokens);
         UserDTO userDTO = userConverter.toDTO(updatedUser);
         
         ApiResponse<UserDTO> response = ApiResponse.success(
@@ -257,8 +267,9 @@ public class UserController {
         User existingUser = userService.getUserById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
         
+        boolean rolesChanged = !request.getRoles().equals(existingUser.getRoles());
         existingUser.setRoles(request.getRoles());
-        User updatedUser = userService.updateUser(existingUser);
+        User updatedUser = userService.updateUser(existingUser, rolesChanged);
         
         RoleAssignmentResponse roleResponse = new RoleAssignmentResponse(
                 updatedUser.getId(),
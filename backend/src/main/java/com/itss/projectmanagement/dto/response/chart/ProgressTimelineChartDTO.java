@@ -7,10 +7,19 @@ import lombok.Data;
 @Data
 public class ProgressTimelineChartDTO {
     private List<ProgressPoint> timeline;
+    private List<ProgressSeries> groupSeries;
+    private List<ProgressSeries> memberSeries;
 
     @Data
     public static class ProgressPoint {
         private String date;
         private double progressPercent;
     }
+
+    @Data
+    public static class ProgressSeries {
+        private Long id;
+        private String name;
+        private List<ProgressPoint> timeline;
+    }
 }
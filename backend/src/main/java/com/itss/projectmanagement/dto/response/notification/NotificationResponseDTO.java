@@ -16,4 +16,6 @@ public class NotificationResponseDTO {
     private String message;
     private List<NotificationDTO> data;
     private long unreadCount;
+    private String nextCursor; // Cursor of the next page, null on the last page
+    private boolean hasMore;
 }
@@ -0,0 +1,29 @@
+package com.itss.projectmanagement.dto.response.peer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Peer review analytics of a project: per-member review averages compared with task completion rates
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeerReviewAnalyticsDTO {
+    private Long projectId;
+    private int reviewedMemberCount;      // Members with at least one completed, valid review received
+    private double avgReviewScore;        // Average of per-member review averages
+    private double reviewScoreStdDev;
+    private int assignedMemberCount;      // Members with at least one assigned task
+    private double avgTaskCompletionRate; // Average of per-member completion rates (0-1)
+    private double taskCompletionStdDev;
+    private int sampleSize;               // Members present in both series
+    private double pearsonCorrelation;
+    private double spearmanCorrelation;
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,62 @@
+package com.itss.projectmanagement.dto.response.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the instructor overview endpoint: headline metrics of every project of an instructor
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstructorOverviewDTO {
+
+    private int totalProjects;
+    private long totalTasks;
+    private long overdueTasks;
+    private long freeRiderCount;
+    private List<ProjectOverview> projects;
+
+    /**
+     * Headline metrics of one project
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProjectOverview {
+        private Long projectId;
+        private String projectName;
+        private boolean finalized;
+        private long groupCount;
+        private long memberCount;
+        private long totalTasks;
+        private long completedTasks;
+        private int completionRate;
+        private long overdueTasks;
+        private Double averageScore;
+        private long scoredMembers;
+        private long freeRiderCount;
+        private SyncHealth syncHealth;
+    }
+
+    /**
+     * GitHub sync health of a project
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SyncHealth {
+        private long linkedGroups; // Groups with a repository URL
+        private long syncedGroups; // Groups with at least one ingested commit
+        private LocalDateTime lastCommitAt;
+        private String status; // NOT_CONFIGURED, NEVER_SYNCED, PARTIAL or HEALTHY
+    }
+}
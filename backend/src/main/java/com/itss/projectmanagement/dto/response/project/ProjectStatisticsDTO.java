@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -22,6 +23,7 @@ public class ProjectStatisticsDTO {
     private PeerReviewStatistics peerReviewStatistics;
     private PressureScoreAnalysis pressureScoreAnalysis;
     private TimeStatistics timeStatistics;
+    private SnapshotInfo snapshot;
 
     /**
      * Project summary statistics
@@ -161,4 +163,18 @@ public class ProjectStatisticsDTO {
             private int commitCount;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Freshness of the materialized statistics
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SnapshotInfo {
+        private long dataVersion; // Project data version the statistics were computed from
+        private long latestDataVersion;
+        private LocalDateTime computedAt;
+        private boolean stale;
+    }
+}
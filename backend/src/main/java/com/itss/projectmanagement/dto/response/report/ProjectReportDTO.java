@@ -2,6 +2,8 @@ package com.itss.projectmanagement.dto.response.report;
 
 import java.util.List;
 
+import com.itss.projectmanagement.dto.common.PaginationResponse;
+
 import lombok.Data;
 
 @Data
@@ -9,6 +11,7 @@ public class ProjectReportDTO {
     private Long projectId;
     private String projectName;
     private List<MemberReport> members;
+    private PaginationResponse.PaginationMeta pagination; // Only set when the report is paged
 
     @Data
     public static class MemberReport {
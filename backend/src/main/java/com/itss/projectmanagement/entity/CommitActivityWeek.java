@@ -0,0 +1,58 @@
+package com.itss.projectmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated commit activity per (project, group, author, ISO week).
+ * Rows are updated incrementally whenever a commit is ingested so that weekly
+ * charts and statistics can be served from a single indexed query.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "commit_activity_weeks",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"group_id", "author_email", "week_start"})
+        },
+        indexes = {
+                @Index(name = "idx_commit_activity_project_week", columnList = "project_id, week_start")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommitActivityWeek extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private Group group;
+
+    @Column(name = "author_email", nullable = false)
+    private String authorEmail;
+
+    // Monday of the ISO week this row aggregates
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long commitCount = 0L; // All commits, valid or not
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long validCommitCount = 0L; // Commits referencing an existing task
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long additions = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long deletions = 0L;
+}
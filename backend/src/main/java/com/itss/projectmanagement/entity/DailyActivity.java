@@ -0,0 +1,77 @@
+package com.itss.projectmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated task and commit activity per (project, group, user, day).
+ * Task counters follow the assignee of the task and commit counters the user whose email
+ * matches the commit author; activity without a matching user is kept with a null user.
+ * Rows are updated incrementally on every write with atomic upserts, and are rebuilt from tasks
+ * and commit records every night to correct any drift.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "daily_activity",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_daily_activity_group_user_day", columnNames = {"group_id", "user_key", "activity_day"})
+        },
+        indexes = {
+                @Index(name = "idx_daily_activity_project_day", columnList = "project_id, activity_day")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivity extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private Group group;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // Generated by the database as user_id, or 0 without a user, so the unique key also covers those rows
+    @Column(name = "user_key", insertable = false, updatable = false,
+            columnDefinition = "bigint GENERATED ALWAYS AS (coalesce(user_id, 0)) STORED")
+    private Long userKey;
+
+    @Column(name = "activity_day", nullable = false)
+    private LocalDate activityDay;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long tasksCreated = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long tasksCompleted = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lateCompletions = 0L; // Completed on a day after the deadline
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long commitCount = 0L; // All commits, valid or not
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long validCommitCount = 0L; // Commits referencing an existing task
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long additions = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long deletions = 0L;
+}
@@ -0,0 +1,56 @@
+package com.itss.projectmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized free-rider risk of a student in a project.
+ * Rows are recomputed in bulk after each contribution scoring run so that
+ * risk lookups do not have to rebuild group averages on every request.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "free_rider_risks",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"project_id", "user_id"})
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeRiderRisk extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Double riskScore; // 0-1 scale, higher means higher risk
+
+    @Column(nullable = false)
+    private Boolean freeRider; // Score below threshold × group average
+
+    // Contributing factors
+    private Double calculatedScore;
+
+    private Double groupAverageScore;
+
+    private Double threshold;
+
+    private Double taskCompletionScore;
+
+    private Double peerReviewScore;
+
+    private Double codeContributionScore;
+
+    private Long lateTaskCount;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -63,6 +63,16 @@ public class Group extends BaseEntity {
     @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<CommitRecord> commitRecords = new HashSet<>();
+
+    @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
+    @Builder.Default
+    private Set<CommitActivityWeek> commitActivityWeeks = new HashSet<>();
+
+    @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
+    @Builder.Default
+    private Set<DailyActivity> dailyActivities = new HashSet<>();
         
     @OneToMany(mappedBy = "group", fetch = FetchType.LAZY)
     @JsonIgnore
@@ -103,6 +103,11 @@ public class Project extends BaseEntity {
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<ProjectStudent> projectStudents = new HashSet<>();
+
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
+    @Builder.Default
+    private Set<FreeRiderRisk> freeRiderRisks = new HashSet<>();
     
     /**
      * Validation to ensure W1 + W2 + W3 = 1.0 for normalized scoring
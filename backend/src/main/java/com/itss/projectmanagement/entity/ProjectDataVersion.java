@@ -0,0 +1,31 @@
+package com.itss.projectmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Monotonic counter of data changes in a project.
+ * It is bumped after every committed task, commit, peer review, contribution score, group or
+ * project settings write, so derived views (statistics snapshots, caches, HTTP ETags) can tell
+ * whether they are still current.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "project_data_versions",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"project_id"})
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDataVersion extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long dataVersion = 0L;
+}
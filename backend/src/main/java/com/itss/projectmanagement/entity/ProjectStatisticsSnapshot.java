@@ -0,0 +1,39 @@
+package com.itss.projectmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized project statistics (serialized ProjectStatisticsDTO).
+ * The snapshot records the project data version it was computed from, so reads can be served
+ * immediately together with their staleness while a background job recomputes dirty projects.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "project_statistics_snapshots",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"project_id"})
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatisticsSnapshot extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    // Project data version the payload reflects
+    @Column(nullable = false)
+    private Long dataVersion;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -62,6 +62,12 @@ public class User extends BaseEntity implements UserDetails {
     
     @Builder.Default
     private boolean enabled = true;
+
+    // Bumped whenever roles, the enabled flag or the password change; tokens carrying an older version are rejected
+    @JsonIgnore
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long tokenVersion = 0L;
     
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,26 @@
+package com.itss.projectmanagement.enums;
+
+/**
+ * Output formats supported by downloadable reports
+ */
+public enum ReportFormat {
+    TEXT("text/plain;charset=UTF-8", "txt"),
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
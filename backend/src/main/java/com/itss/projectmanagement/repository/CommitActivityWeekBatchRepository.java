@@ -0,0 +1,17 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.CommitActivityWeek;
+
+/**
+ * Atomic counter updates for the weekly commit activity cube
+ */
+public interface CommitActivityWeekBatchRepository {
+
+    /**
+     * Add the counters of a delta to the row of its (group, author, week), creating the row if it does not exist.
+     * Runs as a single INSERT ... ON DUPLICATE KEY UPDATE so concurrent ingestion never loses increments.
+     * Only the project and group ids of the delta are read.
+     * @param delta Counter deltas of one author week
+     */
+    void addActivity(CommitActivityWeek delta);
+}
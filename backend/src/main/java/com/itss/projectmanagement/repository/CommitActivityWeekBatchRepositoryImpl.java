@@ -0,0 +1,34 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.CommitActivityWeek;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class CommitActivityWeekBatchRepositoryImpl implements CommitActivityWeekBatchRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO commit_activity_weeks " +
+            "(created_at, updated_at, project_id, group_id, author_email, week_start, commit_count, " +
+            "valid_commit_count, additions, deletions) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE updated_at = ?, commit_count = commit_count + ?, " +
+            "valid_commit_count = valid_commit_count + ?, additions = additions + ?, deletions = deletions + ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addActivity(CommitActivityWeek delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(UPSERT_SQL,
+                now, now,
+                delta.getProject().getId(), delta.getGroup().getId(), delta.getAuthorEmail(),
+                Date.valueOf(delta.getWeekStart()),
+                delta.getCommitCount(), delta.getValidCommitCount(), delta.getAdditions(), delta.getDeletions(),
+                now,
+                delta.getCommitCount(), delta.getValidCommitCount(), delta.getAdditions(), delta.getDeletions());
+    }
+}
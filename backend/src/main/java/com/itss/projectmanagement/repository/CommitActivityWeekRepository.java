@@ -0,0 +1,76 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.CommitActivityWeek;
+import com.itss.projectmanagement.entity.Group;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CommitActivityWeekRepository extends JpaRepository<CommitActivityWeek, Long>, CommitActivityWeekBatchRepository {
+
+    @Modifying
+    @Query("DELETE FROM CommitActivityWeek a WHERE a.group = :group")
+    void deleteByGroup(@Param("group") Group group);
+
+    List<CommitActivityWeek> findByGroup_IdAndWeekStartGreaterThanEqual(Long groupId, LocalDate fromWeek);
+
+    /**
+     * Per-author weekly activity for every group of a project in a week range
+     */
+    @Query("""
+           SELECT a.group.id AS groupId, a.authorEmail AS authorEmail, a.weekStart AS weekStart,
+                  a.commitCount AS commitCount, a.validCommitCount AS validCommitCount,
+                  a.additions AS additions, a.deletions AS deletions
+           FROM CommitActivityWeek a
+           WHERE a.project.id = :projectId AND a.weekStart BETWEEN :fromWeek AND :toWeek
+           """)
+    List<AuthorWeekActivity> findAuthorActivity(
+            @Param("projectId") Long projectId,
+            @Param("fromWeek") LocalDate fromWeek,
+            @Param("toWeek") LocalDate toWeek);
+
+    /**
+     * Project-wide commit totals per week in a week range
+     */
+    @Query("""
+           SELECT a.weekStart AS weekStart, SUM(a.commitCount) AS commitCount, SUM(a.validCommitCount) AS validCommitCount,
+                  SUM(a.additions) AS additions, SUM(a.deletions) AS deletions
+           FROM CommitActivityWeek a
+           WHERE a.project.id = :projectId AND a.weekStart BETWEEN :fromWeek AND :toWeek
+           GROUP BY a.weekStart
+           """)
+    List<WeekTotals> sumByWeek(
+            @Param("projectId") Long projectId,
+            @Param("fromWeek") LocalDate fromWeek,
+            @Param("toWeek") LocalDate toWeek);
+
+    /**
+     * Interface for per-author weekly activity projection
+     */
+    interface AuthorWeekActivity {
+        Long getGroupId();
+        String getAuthorEmail();
+        LocalDate getWeekStart();
+        Long getCommitCount();
+        Long getValidCommitCount();
+        Long getAdditions();
+        Long getDeletions();
+    }
+
+    /**
+     * Interface for project-wide weekly totals projection
+     */
+    interface WeekTotals {
+        LocalDate getWeekStart();
+        Long getCommitCount();
+        Long getValidCommitCount();
+        Long getAdditions();
+        Long getDeletions();
+    }
+}
@@ -3,14 +3,20 @@ package com.itss.projectmanagement.repository;
 import com.itss.projectmanagement.entity.CommitRecord;
 import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommitRecordRepository extends JpaRepository<CommitRecord, Long> {
@@ -54,6 +60,83 @@ public interface CommitRecordRepository extends JpaRepository<CommitRecord, Long
             @Param("taskIds") List<Long> taskIds,
             @Param("maxCap") int maxCap);
 
+    /**
+     * Count valid commits of a project after a given time, grouped by the assignee of the referenced task
+     */
+    @Query("SELECT a.id AS memberId, a.fullName AS memberName, COUNT(cr) AS commitCount " +
+           "FROM CommitRecord cr JOIN cr.task t JOIN t.assignee a " +
+           "WHERE cr.group.project.id = :projectId AND cr.valid = true AND cr.timestamp > :since " +
+           "GROUP BY a.id, a.fullName")
+    List<AssigneeCommitCount> countValidCommitsByAssignee(
+            @Param("projectId") Long projectId,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Count all valid commits of a project grouped by the assignee of the referenced task, for the given assignees
+     */
+    @Query("SELECT a.id AS memberId, a.fullName AS memberName, COUNT(cr) AS commitCount " +
+           "FROM CommitRecord cr JOIN cr.task t JOIN t.assignee a " +
+           "WHERE cr.group.project.id = :projectId AND cr.valid = true AND a.id IN :memberIds " +
+           "GROUP BY a.id, a.fullName")
+    List<AssigneeCommitCount> countValidCommitsByAssigneeIn(
+            @Param("projectId") Long projectId,
+            @Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * Stream per-author commit totals of every group of a project through a forward-only cursor.
+     * The stream must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT g.name AS groupName, cr.authorEmail AS authorEmail, MAX(cr.authorName) AS authorName, " +
+           "COUNT(cr) AS commitCount, SUM(CASE WHEN cr.valid = true THEN 1 ELSE 0 END) AS validCommitCount, " +
+           "COALESCE(SUM(cr.additions), 0) AS additions, COALESCE(SUM(cr.deletions), 0) AS deletions, " +
+           "MIN(cr.timestamp) AS firstCommitAt, MAX(cr.timestamp) AS lastCommitAt " +
+           "FROM CommitRecord cr JOIN cr.group g WHERE g.project.id = :projectId " +
+           "GROUP BY g.id, g.name, cr.authorEmail ORDER BY g.name, cr.authorEmail")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<AuthorCommitSummary> streamAuthorCommitSummaries(@Param("projectId") Long projectId);
+
+    /**
+     * Commit totals of a project per group, author and day
+     */
+    @Query("SELECT cr.group.id AS groupId, cr.authorEmail AS authorEmail, CAST(cr.timestamp AS LocalDate) AS day, " +
+           "COUNT(cr) AS commitCount, SUM(CASE WHEN cr.valid = true THEN 1 ELSE 0 END) AS validCommitCount, " +
+           "COALESCE(SUM(cr.additions), 0) AS additions, COALESCE(SUM(cr.deletions), 0) AS deletions " +
+           "FROM CommitRecord cr WHERE cr.group.project.id = :projectId " +
+           "GROUP BY cr.group.id, cr.authorEmail, CAST(cr.timestamp AS LocalDate)")
+    List<AuthorDailyCommits> sumCommitsByAuthorAndDay(@Param("projectId") Long projectId);
+
+    /**
+     * Number of groups with ingested commits and time of the latest commit of every project of an instructor
+     */
+    @Query("SELECT cr.group.project.id AS projectId, COUNT(DISTINCT cr.group.id) AS syncedGroups, " +
+           "MAX(cr.timestamp) AS lastCommitAt " +
+           "FROM CommitRecord cr WHERE cr.group.project.instructor.id = :instructorId GROUP BY cr.group.project.id")
+    List<ProjectCommitSync> summarizeCommitSyncByInstructor(@Param("instructorId") Long instructorId);
+
+    /**
+     * Interface for per-author commit summary projection
+     */
+    interface AuthorCommitSummary {
+        String getGroupName();
+        String getAuthorEmail();
+        String getAuthorName();
+        Long getCommitCount();
+        Long getValidCommitCount();
+        Long getAdditions();
+        Long getDeletions();
+        LocalDateTime getFirstCommitAt();
+        LocalDateTime getLastCommitAt();
+    }
+
+    /**
+     * Interface for per-assignee commit count projection
+     */
+    interface AssigneeCommitCount {
+        Long getMemberId();
+        String getMemberName();
+        Long getCommitCount();
+    }
+
     /**
      * Interface for code contribution summary projection
      */
@@ -61,4 +144,26 @@ public interface CommitRecordRepository extends JpaRepository<CommitRecord, Long
         Long getTotalAdditions();
         Long getTotalDeletions();
     }
-}
\ No newline at end of file
+
+    /**
+     * Interface for per-author daily commit totals projection
+     */
+    interface AuthorDailyCommits {
+        Long getGroupId();
+        String getAuthorEmail();
+        LocalDate getDay();
+        Long getCommitCount();
+        Long getValidCommitCount();
+        Long getAdditions();
+        Long getDeletions();
+    }
+
+    /**
+     * Interface for per-project commit sync projection
+     */
+    interface ProjectCommitSync {
+        Long getProjectId();
+        Long getSyncedGroups();
+        LocalDateTime getLastCommitAt();
+    }
+}
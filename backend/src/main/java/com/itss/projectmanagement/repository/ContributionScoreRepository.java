@@ -3,13 +3,19 @@ package com.itss.projectmanagement.repository;
 import com.itss.projectmanagement.entity.ContributionScore;
 import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContributionScoreRepository extends JpaRepository<ContributionScore, Long> {
@@ -19,6 +25,8 @@ public interface ContributionScoreRepository extends JpaRepository<ContributionS
     List<ContributionScore> findByUser(User user);
     
     Optional<ContributionScore> findByUserAndProject(User user, Project project);
+
+    List<ContributionScore> findByProjectAndUserIn(Project project, Collection<User> users);
     
     List<ContributionScore> findByProjectAndIsFinalTrue(Project project);
     
@@ -28,4 +36,78 @@ public interface ContributionScoreRepository extends JpaRepository<ContributionS
     @Query("SELECT AVG(cs.calculatedScore) FROM ContributionScore cs WHERE cs.project.id = :projectId AND cs.user.id IN " +
            "(SELECT m.id FROM Group g JOIN g.members m WHERE g.id = :groupId)")
     Double calculateAverageScoreByGroup(@Param("projectId") Long projectId, @Param("groupId") Long groupId);
-}
\ No newline at end of file
+
+    /**
+     * Effective score (adjusted if set, otherwise calculated) of every scored member of a project
+     */
+    @Query("SELECT u.id AS memberId, u.fullName AS memberName, " +
+           "CASE WHEN cs.adjustedScore IS NOT NULL AND cs.adjustedScore > 0 THEN cs.adjustedScore ELSE cs.calculatedScore END AS score " +
+           "FROM ContributionScore cs JOIN cs.user u WHERE cs.project.id = :projectId")
+    List<MemberScore> findEffectiveScoresByProject(@Param("projectId") Long projectId);
+
+    /**
+     * Calculated score of the given members of a project
+     */
+    @Query("SELECT u.id AS memberId, u.fullName AS memberName, cs.calculatedScore AS score " +
+           "FROM ContributionScore cs JOIN cs.user u WHERE cs.project.id = :projectId AND u.id IN :memberIds")
+    List<MemberScore> findCalculatedScoresByProjectAndUserIds(
+            @Param("projectId") Long projectId,
+            @Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * Average effective score (adjusted if set, otherwise calculated) of every project of an instructor
+     */
+    @Query("SELECT cs.project.id AS projectId, COUNT(cs) AS scoredMembers, " +
+           "AVG(CASE WHEN cs.adjustedScore IS NOT NULL AND cs.adjustedScore > 0 THEN cs.adjustedScore ELSE cs.calculatedScore END) AS averageScore " +
+           "FROM ContributionScore cs WHERE cs.project.instructor.id = :instructorId GROUP BY cs.project.id")
+    List<ProjectScoreSummary> averageScoresByInstructor(@Param("instructorId") Long instructorId);
+
+    /**
+     * Stream the contribution scores of a project through a forward-only cursor, ordered by member name.
+     * The stream must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT u.id AS userId, u.username AS username, u.fullName AS fullName, " +
+           "cs.taskCompletionScore AS taskCompletionScore, cs.peerReviewScore AS peerReviewScore, " +
+           "cs.codeContributionScore AS codeContributionScore, cs.lateTaskCount AS lateTaskCount, " +
+           "cs.calculatedScore AS calculatedScore, cs.adjustedScore AS adjustedScore, " +
+           "cs.adjustmentReason AS adjustmentReason, cs.isFinal AS isFinal, cs.updatedAt AS updatedAt " +
+           "FROM ContributionScore cs JOIN cs.user u WHERE cs.project.id = :projectId ORDER BY u.fullName, u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<ScoreExportRow> streamScoreExportRows(@Param("projectId") Long projectId);
+
+    /**
+     * Interface for contribution score export row projection
+     */
+    interface ScoreExportRow {
+        Long getUserId();
+        String getUsername();
+        String getFullName();
+        Double getTaskCompletionScore();
+        Double getPeerReviewScore();
+        Double getCodeContributionScore();
+        Long getLateTaskCount();
+        Double getCalculatedScore();
+        Double getAdjustedScore();
+        String getAdjustmentReason();
+        Boolean getIsFinal();
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * Interface for member effective score projection
+     */
+    interface MemberScore {
+        Long getMemberId();
+        String getMemberName();
+        Double getScore();
+    }
+
+    /**
+     * Interface for per-project score summary projection
+     */
+    interface ProjectScoreSummary {
+        Long getProjectId();
+        Long getScoredMembers();
+        Double getAverageScore();
+    }
+}
@@ -0,0 +1,17 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.DailyActivity;
+
+/**
+ * Atomic counter updates for the daily activity rollup
+ */
+public interface DailyActivityBatchRepository {
+
+    /**
+     * Add the counters of a delta to the row of its (group, user, day), creating the row if it does not exist.
+     * Runs as a single INSERT ... ON DUPLICATE KEY UPDATE so concurrent writers never lose increments.
+     * Only the project, group and user ids of the delta are read.
+     * @param delta Counter deltas, negative to take back a previous contribution
+     */
+    void addActivity(DailyActivity delta);
+}
@@ -0,0 +1,39 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.DailyActivity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class DailyActivityBatchRepositoryImpl implements DailyActivityBatchRepository {
+
+    // The unique key is (group_id, user_key, activity_day); user_key is generated from user_id
+    private static final String UPSERT_SQL = "INSERT INTO daily_activity " +
+            "(created_at, updated_at, project_id, group_id, user_id, activity_day, tasks_created, tasks_completed, " +
+            "late_completions, commit_count, valid_commit_count, additions, deletions) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE updated_at = ?, tasks_created = tasks_created + ?, " +
+            "tasks_completed = tasks_completed + ?, late_completions = late_completions + ?, " +
+            "commit_count = commit_count + ?, valid_commit_count = valid_commit_count + ?, " +
+            "additions = additions + ?, deletions = deletions + ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addActivity(DailyActivity delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long userId = delta.getUser() != null ? delta.getUser().getId() : null;
+        jdbcTemplate.update(UPSERT_SQL,
+                now, now,
+                delta.getProject().getId(), delta.getGroup().getId(), userId, Date.valueOf(delta.getActivityDay()),
+                delta.getTasksCreated(), delta.getTasksCompleted(), delta.getLateCompletions(),
+                delta.getCommitCount(), delta.getValidCommitCount(), delta.getAdditions(), delta.getDeletions(),
+                now,
+                delta.getTasksCreated(), delta.getTasksCompleted(), delta.getLateCompletions(),
+                delta.getCommitCount(), delta.getValidCommitCount(), delta.getAdditions(), delta.getDeletions());
+    }
+}
@@ -0,0 +1,94 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.DailyActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyActivityRepository extends JpaRepository<DailyActivity, Long>, DailyActivityBatchRepository {
+
+    @Modifying
+    @Query("DELETE FROM DailyActivity a WHERE a.project.id = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Project-wide totals per day in a day range
+     */
+    @Query("""
+           SELECT a.activityDay AS day, SUM(a.tasksCreated) AS tasksCreated, SUM(a.tasksCompleted) AS tasksCompleted,
+                  SUM(a.lateCompletions) AS lateCompletions, SUM(a.commitCount) AS commitCount,
+                  SUM(a.validCommitCount) AS validCommitCount, SUM(a.additions) AS additions, SUM(a.deletions) AS deletions
+           FROM DailyActivity a
+           WHERE a.project.id = :projectId AND a.activityDay BETWEEN :fromDay AND :toDay
+           GROUP BY a.activityDay
+           """)
+    List<DayTotals> sumByDay(
+            @Param("projectId") Long projectId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    /**
+     * Per-member daily activity for every group of a project in a day range
+     */
+    @Query("""
+           SELECT a.group.id AS groupId, u.id AS userId, a.activityDay AS day,
+                  a.tasksCreated AS tasksCreated, a.tasksCompleted AS tasksCompleted, a.lateCompletions AS lateCompletions,
+                  a.commitCount AS commitCount, a.validCommitCount AS validCommitCount,
+                  a.additions AS additions, a.deletions AS deletions
+           FROM DailyActivity a LEFT JOIN a.user u
+           WHERE a.project.id = :projectId AND a.activityDay BETWEEN :fromDay AND :toDay
+           """)
+    List<MemberDay> findMemberDays(
+            @Param("projectId") Long projectId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    /**
+     * Per-member daily task activity of a project over its whole lifetime
+     */
+    @Query("""
+           SELECT a.group.id AS groupId, u.id AS userId, a.activityDay AS day,
+                  a.tasksCreated AS tasksCreated, a.tasksCompleted AS tasksCompleted, a.lateCompletions AS lateCompletions,
+                  a.commitCount AS commitCount, a.validCommitCount AS validCommitCount,
+                  a.additions AS additions, a.deletions AS deletions
+           FROM DailyActivity a LEFT JOIN a.user u
+           WHERE a.project.id = :projectId AND (a.tasksCreated <> 0 OR a.tasksCompleted <> 0)
+           """)
+    List<MemberDay> findTaskDaysByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Interface for project-wide daily totals projection
+     */
+    interface DayTotals {
+        LocalDate getDay();
+        Long getTasksCreated();
+        Long getTasksCompleted();
+        Long getLateCompletions();
+        Long getCommitCount();
+        Long getValidCommitCount();
+        Long getAdditions();
+        Long getDeletions();
+    }
+
+    /**
+     * Interface for per-member daily activity projection
+     */
+    interface MemberDay {
+        Long getGroupId();
+        Long getUserId();
+        LocalDate getDay();
+        Long getTasksCreated();
+        Long getTasksCompleted();
+        Long getLateCompletions();
+        Long getCommitCount();
+        Long getValidCommitCount();
+        Long getAdditions();
+        Long getDeletions();
+    }
+}
@@ -5,6 +5,7 @@ import com.itss.projectmanagement.entity.FreeRiderCase;
 import com.itss.projectmanagement.enums.FreeRiderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,6 +25,24 @@ public interface FreeRiderCaseRepository extends JpaRepository<FreeRiderCase, Lo
     
     List<FreeRiderCase> findByGroup_IdAndStatus(Long groupId, FreeRiderStatus status);
     
+    /**
+     * Count the distinct students with an unresolved free-rider case in every project of an instructor
+     */
+    @Query("SELECT c.project.id AS projectId, COUNT(DISTINCT c.student.id) AS freeRiderCount " +
+           "FROM FreeRiderCase c WHERE c.project.instructor.id = :instructorId AND c.status <> :resolvedStatus " +
+           "GROUP BY c.project.id")
+    List<ProjectFreeRiderCount> countActiveFreeRidersByInstructor(
+            @Param("instructorId") Long instructorId,
+            @Param("resolvedStatus") FreeRiderStatus resolvedStatus);
+
     @Query("SELECT CASE WHEN COUNT(c) > 0 THEN TRUE ELSE FALSE END FROM FreeRiderCase c WHERE c.project.id = ?1 AND c.student.id = ?2 AND c.status <> com.itss.projectmanagement.enums.FreeRiderStatus.RESOLVED")
     boolean existsActiveCase(Long projectId, Long studentId);
+
+    /**
+     * Interface for per-project free-rider count projection
+     */
+    interface ProjectFreeRiderCount {
+        Long getProjectId();
+        Long getFreeRiderCount();
+    }
 }
@@ -0,0 +1,33 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.FreeRiderRisk;
+import com.itss.projectmanagement.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FreeRiderRiskRepository extends JpaRepository<FreeRiderRisk, Long> {
+
+    List<FreeRiderRisk> findByProject_Id(Long projectId);
+
+    Optional<FreeRiderRisk> findByProject_IdAndUser_Id(Long projectId, Long userId);
+
+    boolean existsByProject_Id(Long projectId);
+
+    @Query("SELECT r.user FROM FreeRiderRisk r WHERE r.project.id = :projectId AND r.freeRider = true")
+    List<User> findFreeRiders(@Param("projectId") Long projectId);
+
+    @Query("SELECT MAX(r.computedAt) FROM FreeRiderRisk r WHERE r.project.id = :projectId")
+    LocalDateTime findLatestComputedAt(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM FreeRiderRisk r WHERE r.project.id = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -3,15 +3,20 @@ package com.itss.projectmanagement.repository;
 import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
@@ -25,6 +30,14 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
      */
     List<Group> findByProject(Project project);
 
+    /**
+     * Find the next batch of groups in a project after a given group id (keyset cursor)
+     * @param project the project
+     * @param id the last group id already read
+     * @return up to 20 groups ordered by id
+     */
+    List<Group> findTop20ByProjectAndIdGreaterThanOrderByIdAsc(Project project, Long id);
+
     /**
      * Find all groups in a project with pagination
      * @param project the project
@@ -109,4 +122,112 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
            "UNION " +
            "SELECT g.leader FROM Group g WHERE g.id = :groupId AND g.leader IS NOT NULL")
     List<User> getGroupMembers(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+
+    /**
+     * Get every group a user belongs to, as a member or as the leader
+     * @param userId the user id
+     * @return list of group, project and leader ids
+     */
+    @Query("SELECT DISTINCT g.id AS groupId, g.project.id AS projectId, g.leader.id AS leaderId " +
+           "FROM Group g LEFT JOIN g.members m WHERE m.id = :userId OR g.leader.id = :userId")
+    List<UserGroupMembership> findMembershipsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Get (group, member) pairs for every group of a project, excluding leaders who are not members
+     * @param projectId the project id
+     * @return list of group memberships
+     */
+    @Query("SELECT g.id AS groupId, m.id AS userId FROM Group g JOIN g.members m WHERE g.project.id = :projectId")
+    List<GroupMembership> findMembershipsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Get the distinct group members of a project ordered by name, one page at a time
+     * @param projectId the project id
+     * @param pageable the page to load, or Pageable.unpaged() for all members
+     * @return page of member ids and names
+     */
+    @Query(value = "SELECT DISTINCT m.id AS memberId, m.fullName AS memberName FROM Group g JOIN g.members m " +
+                   "WHERE g.project.id = :projectId ORDER BY m.fullName, m.id",
+           countQuery = "SELECT COUNT(DISTINCT m.id) FROM Group g JOIN g.members m WHERE g.project.id = :projectId")
+    Page<ProjectMember> findMembersByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    /**
+     * Stream one report row per distinct member of a project, every metric computed by the database.
+     * Rows are read through a forward-only cursor; the stream must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT DISTINCT m.id AS memberId, m.fullName AS memberName, " +
+           "(SELECT COUNT(cr) FROM CommitRecord cr JOIN cr.task t " +
+           " WHERE cr.group.project.id = :projectId AND cr.valid = true AND t.assignee.id = m.id) AS commitCount, " +
+           "(SELECT MAX(cs.calculatedScore) FROM ContributionScore cs " +
+           " WHERE cs.project.id = :projectId AND cs.user.id = m.id) AS contributionScore, " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.group.project.id = :projectId AND t.assignee.id = m.id " +
+           " AND t.status = :completedStatus) AS completedTasks, " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.group.project.id = :projectId AND t.assignee.id = m.id " +
+           " AND t.status = :completedStatus AND CAST(COALESCE(t.completedAt, t.updatedAt) AS LocalDate) > t.deadline) AS lateTasks, " +
+           "(SELECT AVG((pr.completionScore + pr.cooperationScore) / 2.0) FROM PeerReview pr " +
+           " WHERE pr.project.id = :projectId AND pr.reviewee.id = m.id AND pr.isValid = true AND pr.isCompleted = true) AS peerReviewAvg " +
+           "FROM Group g JOIN g.members m WHERE g.project.id = :projectId ORDER BY m.fullName, m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<MemberReportRow> streamMemberReportRows(
+            @Param("projectId") Long projectId,
+            @Param("completedStatus") TaskStatus completedStatus);
+
+    /**
+     * Count groups, groups with a linked repository and distinct members of every project of an instructor
+     * @param instructorId the instructor id
+     * @return list of per-project group summaries
+     */
+    @Query("SELECT g.project.id AS projectId, COUNT(DISTINCT g.id) AS groupCount, " +
+           "COUNT(DISTINCT CASE WHEN g.repositoryUrl IS NOT NULL AND g.repositoryUrl <> '' THEN g.id END) AS linkedGroups, " +
+           "COUNT(DISTINCT m.id) AS memberCount " +
+           "FROM Group g LEFT JOIN g.members m WHERE g.project.instructor.id = :instructorId GROUP BY g.project.id")
+    List<ProjectGroupSummary> summarizeGroupsByInstructor(@Param("instructorId") Long instructorId);
+
+    /**
+     * Interface for member report row projection
+     */
+    interface MemberReportRow {
+        Long getMemberId();
+        String getMemberName();
+        Long getCommitCount();
+        Double getContributionScore();
+        Long getCompletedTasks();
+        Long getLateTasks();
+        Double getPeerReviewAvg();
+    }
+
+    /**
+     * Interface for project member projection
+     */
+    interface ProjectMember {
+        Long getMemberId();
+        String getMemberName();
+    }
+
+    /**
+     * Interface for group membership projection
+     */
+    interface GroupMembership {
+        Long getGroupId();
+        Long getUserId();
+    }
+
+    /**
+     * Interface for per-project group summary projection
+     */
+    interface ProjectGroupSummary {
+        Long getProjectId();
+        Long getGroupCount();
+        Long getLinkedGroups();
+        Long getMemberCount();
+    }
+
+    /**
+     * Interface for a user's group membership projection
+     */
+    interface UserGroupMembership {
+        Long getGroupId();
+        Long getProjectId();
+        Long getLeaderId();
+    }
+}
@@ -0,0 +1,19 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.Notification;
+
+import java.util.List;
+
+/**
+ * Bulk write operations for notifications that bypass per-entity persistence
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * Insert new notifications using a single JDBC batch.
+     * Only the user id of each notification's recipient is read.
+     * @param notifications The notifications to insert
+     * @return Number of inserted rows
+     */
+    int batchInsert(List<Notification> notifications);
+}
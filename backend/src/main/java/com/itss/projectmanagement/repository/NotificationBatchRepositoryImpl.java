@@ -0,0 +1,41 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(user_id, title, message, is_read, created_at, notification_type, link, data) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchInsert(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        // Same default as Notification.onCreate would set
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, notification) -> {
+            ps.setLong(1, notification.getUser().getId());
+            ps.setString(2, notification.getTitle());
+            ps.setString(3, notification.getMessage());
+            ps.setBoolean(4, notification.isRead());
+            ps.setTimestamp(5, notification.getCreatedAt() != null ? Timestamp.valueOf(notification.getCreatedAt()) : now);
+            ps.setString(6, notification.getType().name());
+            ps.setString(7, notification.getLink());
+            ps.setString(8, notification.getData());
+        });
+        return notifications.size();
+    }
+}
@@ -2,24 +2,58 @@ package com.itss.projectmanagement.repository;
 
 import com.itss.projectmanagement.entity.Notification;
 import com.itss.projectmanagement.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    
-    // Find all notifications for a user, sorted by creation date (newest first)
-    List<Notification> findByUserOrderByCreatedAtDesc(User user);
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBatchRepository {
     
     // Count unread notifications for a user
-    long countByUserAndIsReadFalse(User user);
+    long countByUser_IdAndIsReadFalse(Long userId);
+
+    /**
+     * Newest notifications of a user, the first page of the feed
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeed(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Notifications of a user older than a cursor (created at, id), the following pages of the feed
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * Unread notification count per user for a set of users
+     */
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS unreadCount FROM Notification n " +
+           "WHERE n.user.id IN :userIds AND n.isRead = false GROUP BY n.user.id")
+    List<UnreadCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
     
     // Mark all notifications for a user as read
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user = :user AND n.isRead = false")
     void markAllAsRead(User user);
+
+    /**
+     * Interface for per-user unread count projection
+     */
+    interface UnreadCount {
+        Long getUserId();
+        Long getUnreadCount();
+    }
 }
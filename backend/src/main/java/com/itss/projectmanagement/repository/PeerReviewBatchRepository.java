@@ -0,0 +1,19 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.PeerReview;
+
+import java.util.List;
+
+/**
+ * Bulk write operations for peer reviews that bypass per-entity persistence
+ */
+public interface PeerReviewBatchRepository {
+
+    /**
+     * Insert new peer reviews using a single JDBC batch.
+     * Only the reviewer, reviewee and project ids of each review are read.
+     * @param reviews The reviews to insert
+     * @return Number of inserted rows
+     */
+    int batchInsert(List<PeerReview> reviews);
+}
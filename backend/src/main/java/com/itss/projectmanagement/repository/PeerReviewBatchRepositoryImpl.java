@@ -0,0 +1,46 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.PeerReview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PeerReviewBatchRepositoryImpl implements PeerReviewBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO peer_reviews " +
+            "(created_at, updated_at, assigned_at, reviewer_id, reviewee_id, project_id, review_week, " +
+            "completion_score, cooperation_score, is_completed, is_valid, check_notified) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchInsert(List<PeerReview> reviews) {
+        if (reviews.isEmpty()) {
+            return 0;
+        }
+        // Same timestamps as BaseEntity.onCreate / PeerReview.onCreate would set
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, reviews, BATCH_SIZE, (ps, review) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, review.getReviewer().getId());
+            ps.setLong(5, review.getReviewee().getId());
+            ps.setLong(6, review.getProject().getId());
+            ps.setInt(7, review.getReviewWeek());
+            ps.setDouble(8, review.getCompletionScore());
+            ps.setDouble(9, review.getCooperationScore());
+            ps.setBoolean(10, review.getIsCompleted());
+            ps.setBoolean(11, review.getIsValid());
+            ps.setBoolean(12, review.getCheckNotified());
+        });
+        return reviews.size();
+    }
+}
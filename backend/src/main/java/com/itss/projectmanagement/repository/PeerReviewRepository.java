@@ -11,10 +11,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.jpa.repository.Modifying;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface PeerReviewRepository extends JpaRepository<PeerReview, Long> {
+public interface PeerReviewRepository extends JpaRepository<PeerReview, Long>, PeerReviewBatchRepository {
 
     List<PeerReview> findByReviewerAndProject(User reviewer, Project project);
     
@@ -26,6 +27,13 @@ public interface PeerReviewRepository extends JpaRepository<PeerReview, Long> {
             User reviewer, User reviewee, Project project, Integer reviewWeek);
     
     boolean existsByReviewerAndIsCompletedFalse(User reviewer);
+
+    /**
+     * Get every reviewer-reviewee pair that already has a review in a project for a given week
+     */
+    @Query("SELECT pr.reviewer.id AS reviewerId, pr.reviewee.id AS revieweeId FROM PeerReview pr " +
+           "WHERE pr.project.id = :projectId AND pr.reviewWeek = :reviewWeek")
+    List<ReviewPair> findReviewPairsByProjectAndWeek(@Param("projectId") Long projectId, @Param("reviewWeek") Integer reviewWeek);
     
     /**
      * Find incomplete peer reviews assigned more than 24 hours ago that haven't been notified yet
@@ -35,6 +43,24 @@ public interface PeerReviewRepository extends JpaRepository<PeerReview, Long> {
     @Query("SELECT AVG((pr.completionScore + pr.cooperationScore) / 2.0) FROM PeerReview pr WHERE pr.reviewee = :reviewee AND pr.project = :project AND pr.isValid = true AND pr.isCompleted = true")
     Double findAverageScoreByRevieweeAndProject(@Param("reviewee") User reviewee, @Param("project") Project project);
 
+    /**
+     * Average completed, valid review score received by each member of a project
+     */
+    @Query("SELECT pr.reviewee.id AS userId, AVG((pr.completionScore + pr.cooperationScore) / 2.0) AS averageScore " +
+           "FROM PeerReview pr WHERE pr.project.id = :projectId AND pr.isValid = true AND pr.isCompleted = true " +
+           "GROUP BY pr.reviewee.id")
+    List<RevieweeAverage> findAverageScoresByReviewee(@Param("projectId") Long projectId);
+
+    /**
+     * Average completed, valid review score received by the given members of a project
+     */
+    @Query("SELECT pr.reviewee.id AS userId, AVG((pr.completionScore + pr.cooperationScore) / 2.0) AS averageScore " +
+           "FROM PeerReview pr WHERE pr.project.id = :projectId AND pr.reviewee.id IN :revieweeIds " +
+           "AND pr.isValid = true AND pr.isCompleted = true GROUP BY pr.reviewee.id")
+    List<RevieweeAverage> findAverageScoresByRevieweeIn(
+            @Param("projectId") Long projectId,
+            @Param("revieweeIds") Collection<Long> revieweeIds);
+
     @Query("SELECT COUNT(pr) FROM PeerReview pr WHERE pr.reviewer = :user AND pr.project = :project AND pr.isCompleted = true")
     Long countCompletedReviewsByReviewerAndProject(@Param("user") User user, @Param("project") Project project);
     
@@ -44,6 +70,20 @@ public interface PeerReviewRepository extends JpaRepository<PeerReview, Long> {
     @Query("SELECT pr.reviewee FROM PeerReview pr WHERE pr.reviewer.id = :reviewerId AND pr.project = :project AND pr.isCompleted = false AND pr.isValid = true")
     List<User> findMembersNotReviewedByReviewer(@Param("project") Project project, @Param("reviewerId") Long reviewerId);
     
+    /**
+     * Count incomplete and valid peer reviews per reviewer
+     */
+    @Query("SELECT pr.reviewer.id AS reviewerId, COUNT(pr) AS pendingCount FROM PeerReview pr " +
+           "WHERE pr.isCompleted = false AND pr.isValid = true GROUP BY pr.reviewer.id")
+    List<PendingReviewCount> countPendingReviewsByReviewer();
+
+    /**
+     * Count incomplete and valid peer reviews for the given reviewers
+     */
+    @Query("SELECT pr.reviewer.id AS reviewerId, COUNT(pr) AS pendingCount FROM PeerReview pr " +
+           "WHERE pr.isCompleted = false AND pr.isValid = true AND pr.reviewer.id IN :reviewerIds GROUP BY pr.reviewer.id")
+    List<PendingReviewCount> countPendingReviewsByReviewerIds(@Param("reviewerIds") Collection<Long> reviewerIds);
+
     /**
      * Find incomplete and valid peer reviews by reviewer
      */
@@ -65,6 +105,54 @@ public interface PeerReviewRepository extends JpaRepository<PeerReview, Long> {
     @Query("UPDATE PeerReview pr SET pr.isValid = false WHERE pr.isCompleted = false AND pr.isValid = true AND pr.assignedAt < :cutoffTime")
     int invalidateOverduePeerReviews(@Param("cutoffTime") LocalDateTime cutoffTime);
     
+    /**
+     * Get projects that have overdue, incomplete reviews not yet handled by the hourly check
+     */
+    @Query("SELECT DISTINCT pr.project.id FROM PeerReview pr " +
+           "WHERE pr.isCompleted = false AND pr.checkNotified = false AND pr.assignedAt < :cutoffTime")
+    List<Long> findProjectIdsWithOverdueUnnotifiedReviews(@Param("cutoffTime") LocalDateTime cutoffTime);
+
+    /**
+     * Get reviewers of a project's overdue, incomplete reviews not yet handled by the hourly check
+     */
+    @Query("SELECT DISTINCT pr.reviewer.id FROM PeerReview pr WHERE pr.project.id = :projectId " +
+           "AND pr.isCompleted = false AND pr.checkNotified = false AND pr.assignedAt < :cutoffTime")
+    List<Long> findReviewerIdsWithOverdueUnnotifiedReviews(@Param("projectId") Long projectId, @Param("cutoffTime") LocalDateTime cutoffTime);
+
+    /**
+     * Invalidate a project's overdue, incomplete reviews and mark them as handled by the hourly check
+     * @return Number of records updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE PeerReview pr SET pr.isValid = false, pr.checkNotified = true WHERE pr.project.id = :projectId " +
+           "AND pr.isCompleted = false AND pr.checkNotified = false AND pr.assignedAt < :cutoffTime")
+    int invalidateAndMarkNotifiedOverdueReviews(@Param("projectId") Long projectId, @Param("cutoffTime") LocalDateTime cutoffTime);
+
+    /**
+     * Get reviewers who still have incomplete and valid reviews in a project
+     */
+    @Query("SELECT DISTINCT pr.reviewer.id FROM PeerReview pr " +
+           "WHERE pr.project.id = :projectId AND pr.isCompleted = false AND pr.isValid = true")
+    List<Long> findReviewerIdsWithPendingReviews(@Param("projectId") Long projectId);
+
+    /**
+     * Invalidate overdue, incomplete reviews of the given reviewers
+     * @return Number of records updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE PeerReview pr SET pr.isValid = false WHERE pr.reviewer.id IN :reviewerIds " +
+           "AND pr.isCompleted = false AND pr.isValid = true AND pr.assignedAt < :cutoffTime")
+    int invalidateOverdueReviewsOfReviewers(@Param("reviewerIds") Collection<Long> reviewerIds, @Param("cutoffTime") LocalDateTime cutoffTime);
+
+    /**
+     * Đếm số lần không hoàn thành đánh giá chéo (invalid) của từng người dùng trong một dự án
+     */
+    @Query("SELECT pr.reviewer.id AS reviewerId, COUNT(pr) AS failureCount FROM PeerReview pr " +
+           "WHERE pr.project.id = :projectId AND pr.isValid = false GROUP BY pr.reviewer.id")
+    List<ReviewerFailureCount> countInvalidReviewsByReviewer(@Param("projectId") Long projectId);
+
     /**
      * Đếm số lần không hoàn thành đánh giá chéo (invalid) của người dùng trong một dự án
      */
@@ -109,4 +197,36 @@ public interface PeerReviewRepository extends JpaRepository<PeerReview, Long> {
            "JOIN Group g ON u MEMBER OF g.members OR g.leader = u " +
            "WHERE g.id = :groupId AND pr.assignedAt >= :oneWeekAgo")
     boolean hasGroupTriggeredPeerReviewInLastWeek(@Param("groupId") Long groupId, @Param("oneWeekAgo") LocalDateTime oneWeekAgo);
-}
\ No newline at end of file
+
+    /**
+     * Interface for reviewer-reviewee pair projection
+     */
+    interface ReviewPair {
+        Long getReviewerId();
+        Long getRevieweeId();
+    }
+
+    /**
+     * Interface for per-reviewee average score projection
+     */
+    interface RevieweeAverage {
+        Long getUserId();
+        Double getAverageScore();
+    }
+
+    /**
+     * Interface for pending review count projection
+     */
+    interface PendingReviewCount {
+        Long getReviewerId();
+        Long getPendingCount();
+    }
+
+    /**
+     * Interface for invalid review count projection
+     */
+    interface ReviewerFailureCount {
+        Long getReviewerId();
+        Long getFailureCount();
+    }
+}
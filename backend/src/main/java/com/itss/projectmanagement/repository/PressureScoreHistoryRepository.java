@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -45,4 +47,33 @@ public interface PressureScoreHistoryRepository extends JpaRepository<PressureSc
      */
     List<PressureScoreHistory> findByUserAndProjectAndRecordedAtBetweenOrderByRecordedAtAsc(
         User user, Project project, LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+
+    /**
+     * Sum of recorded scores per day for the given users of a project in a time range
+     * @param projectId The ID of the project
+     * @param userIds The users to include
+     * @param from Start time (inclusive)
+     * @param to End time (exclusive)
+     * @return Score total and number of records per day
+     */
+    @Query("SELECT CAST(psh.recordedAt AS LocalDate) AS day, SUM(psh.score) AS totalScore, COUNT(psh) AS recordCount " +
+           "FROM PressureScoreHistory psh " +
+           "WHERE psh.project.id = :projectId AND psh.user.id IN :userIds " +
+           "AND psh.recordedAt >= :from AND psh.recordedAt < :to " +
+           "GROUP BY CAST(psh.recordedAt AS LocalDate)")
+    List<DailyScoreTotal> sumScoresByDay(
+        @Param("projectId") Long projectId,
+        @Param("userIds") Collection<Long> userIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Interface for daily pressure score totals projection
+     */
+    interface DailyScoreTotal {
+        LocalDate getDay();
+        Long getTotalScore();
+        Long getRecordCount();
+    }
+}
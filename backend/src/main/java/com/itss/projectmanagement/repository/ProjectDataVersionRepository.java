@@ -0,0 +1,28 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.ProjectDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ProjectDataVersionRepository extends JpaRepository<ProjectDataVersion, Long> {
+
+    @Query("SELECT v.dataVersion FROM ProjectDataVersion v WHERE v.project.id = :projectId")
+    Optional<Long> findDataVersionByProjectId(@Param("projectId") Long projectId);
+
+    Optional<ProjectDataVersion> findByProject_Id(Long projectId);
+
+    /**
+     * Atomically increment the data version of a project
+     * @return Number of updated rows, 0 when the project has no version row yet
+     */
+    @Modifying
+    @Query("UPDATE ProjectDataVersion v SET v.dataVersion = v.dataVersion + 1, v.updatedAt = :now WHERE v.project.id = :projectId")
+    int incrementDataVersion(@Param("projectId") Long projectId, @Param("now") LocalDateTime now);
+}
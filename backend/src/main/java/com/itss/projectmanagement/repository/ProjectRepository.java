@@ -11,6 +11,7 @@ import java.util.List;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByInstructor(User instructor);
+    List<Project> findByInstructor_IdOrderByCreatedAtDesc(Long instructorId);
     boolean existsByName(String name);
     
     /**
@@ -0,0 +1,44 @@
+package com.itss.projectmanagement.repository;
+
+import com.itss.projectmanagement.entity.ProjectStatisticsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectStatisticsSnapshotRepository extends JpaRepository<ProjectStatisticsSnapshot, Long> {
+
+    Optional<ProjectStatisticsSnapshot> findByProject_Id(Long projectId);
+
+    @Query("SELECT s.dataVersion FROM ProjectStatisticsSnapshot s WHERE s.project.id = :projectId")
+    Optional<Long> findDataVersionByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Data version and computation time of the snapshot of a project, without loading its payload
+     */
+    @Query("SELECT s.dataVersion AS dataVersion, s.computedAt AS computedAt " +
+           "FROM ProjectStatisticsSnapshot s WHERE s.project.id = :projectId")
+    Optional<SnapshotState> findStateByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Projects whose snapshot was computed from an older data version than the current one,
+     * or before the given time (date-dependent sections such as pressure scores expire daily)
+     */
+    @Query("SELECT s.project.id FROM ProjectStatisticsSnapshot s " +
+           "WHERE s.computedAt < :computedBefore " +
+           "OR EXISTS (SELECT v.id FROM ProjectDataVersion v WHERE v.project.id = s.project.id AND v.dataVersion > s.dataVersion)")
+    List<Long> findStaleProjectIds(@Param("computedBefore") LocalDateTime computedBefore);
+
+    /**
+     * Interface for snapshot state projection
+     */
+    interface SnapshotState {
+        Long getDataVersion();
+        LocalDateTime getComputedAt();
+    }
+}
@@ -1,5 +1,6 @@
 package com.itss.projectmanagement.repository;
 
+import com.itss.projectmanagement.enums.DifficultyLevel;
 import com.itss.projectmanagement.enums.TaskStatus;
 import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.Project;
@@ -12,7 +13,9 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -56,4 +59,147 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByAssigneeAndGroup_Project(User user, Project project);
 
+    /**
+     * Count assigned and completed tasks of every assignee in a project
+     */
+    @Query("SELECT t.assignee.id AS userId, COUNT(t) AS totalTasks, " +
+           "SUM(CASE WHEN t.status = :completedStatus THEN 1 ELSE 0 END) AS completedTasks " +
+           "FROM Task t WHERE t.group.project.id = :projectId AND t.assignee IS NOT NULL GROUP BY t.assignee.id")
+    List<AssigneeTaskCount> countTasksByAssignee(
+            @Param("projectId") Long projectId,
+            @Param("completedStatus") TaskStatus completedStatus);
+
+    /**
+     * Get completed tasks of a group (assignee and completion time) since a given time
+     */
+    @Query("SELECT t.assignee.id AS assigneeId, t.completedAt AS completedAt FROM Task t " +
+           "WHERE t.group.id = :groupId AND t.status = :status AND t.assignee IS NOT NULL AND t.completedAt >= :since")
+    List<TaskCompletion> findCompletionsByGroupSince(
+            @Param("groupId") Long groupId,
+            @Param("status") TaskStatus status,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Get difficulty and deadline of every assigned task of a project that is not in the given status
+     */
+    @Query("SELECT t.assignee.id AS assigneeId, t.difficulty AS difficulty, t.deadline AS deadline FROM Task t " +
+           "WHERE t.group.project.id = :projectId AND t.assignee IS NOT NULL AND t.status <> :status")
+    List<OpenTaskLoad> findTaskLoadsByProjectAndStatusNot(
+            @Param("projectId") Long projectId,
+            @Param("status") TaskStatus status);
+
+    /**
+     * Count completed tasks and tasks completed after their deadline for the given assignees of a project
+     */
+    @Query("SELECT t.assignee.id AS userId, COUNT(t) AS completedTasks, " +
+           "SUM(CASE WHEN CAST(COALESCE(t.completedAt, t.updatedAt) AS LocalDate) > t.deadline THEN 1 ELSE 0 END) AS lateTasks " +
+           "FROM Task t WHERE t.group.project.id = :projectId AND t.status = :completedStatus " +
+           "AND t.assignee.id IN :assigneeIds GROUP BY t.assignee.id")
+    List<AssigneeCompletionSummary> summarizeCompletionsByAssignee(
+            @Param("projectId") Long projectId,
+            @Param("assigneeIds") Collection<Long> assigneeIds,
+            @Param("completedStatus") TaskStatus completedStatus);
+
+    /**
+     * Count the tasks of a project created per group, assignee and day
+     */
+    @Query("SELECT t.group.id AS groupId, a.id AS userId, CAST(t.createdAt AS LocalDate) AS day, COUNT(t) AS taskCount, " +
+           "0L AS lateCount FROM Task t LEFT JOIN t.assignee a " +
+           "WHERE t.group.project.id = :projectId AND t.createdAt IS NOT NULL " +
+           "GROUP BY t.group.id, a.id, CAST(t.createdAt AS LocalDate)")
+    List<DailyTaskCount> countCreatedTasksByDay(@Param("projectId") Long projectId);
+
+    /**
+     * Count the completed tasks of a project, and those completed after their deadline, per group, assignee and day
+     */
+    @Query("SELECT t.group.id AS groupId, a.id AS userId, CAST(t.completedAt AS LocalDate) AS day, COUNT(t) AS taskCount, " +
+           "SUM(CASE WHEN CAST(t.completedAt AS LocalDate) > t.deadline THEN 1 ELSE 0 END) AS lateCount " +
+           "FROM Task t LEFT JOIN t.assignee a " +
+           "WHERE t.group.project.id = :projectId AND t.status = :completedStatus AND t.completedAt IS NOT NULL " +
+           "GROUP BY t.group.id, a.id, CAST(t.completedAt AS LocalDate)")
+    List<DailyTaskCount> countCompletedTasksByDay(
+            @Param("projectId") Long projectId,
+            @Param("completedStatus") TaskStatus completedStatus);
+
+    /**
+     * Count total, completed and overdue tasks of every project of an instructor
+     */
+    @Query("SELECT t.group.project.id AS projectId, COUNT(t) AS totalTasks, " +
+           "SUM(CASE WHEN t.status = :completedStatus THEN 1 ELSE 0 END) AS completedTasks, " +
+           "SUM(CASE WHEN t.status <> :completedStatus AND t.deadline < :today THEN 1 ELSE 0 END) AS overdueTasks " +
+           "FROM Task t WHERE t.group.project.instructor.id = :instructorId GROUP BY t.group.project.id")
+    List<ProjectTaskSummary> summarizeTasksByInstructor(
+            @Param("instructorId") Long instructorId,
+            @Param("completedStatus") TaskStatus completedStatus,
+            @Param("today") LocalDate today);
+
+    /**
+     * Get the group and assignee of a task, used by authorization checks
+     */
+    @Query("SELECT t.group.id AS groupId, t.assignee.id AS assigneeId FROM Task t WHERE t.id = :taskId")
+    Optional<TaskAccess> findAccessById(@Param("taskId") Long taskId);
+
+    /**
+     * Interface for per-assignee task count projection
+     */
+    interface AssigneeTaskCount {
+        Long getUserId();
+        Long getTotalTasks();
+        Long getCompletedTasks();
+    }
+
+    /**
+     * Interface for task completion projection
+     */
+    interface TaskCompletion {
+        Long getAssigneeId();
+        LocalDateTime getCompletedAt();
+    }
+
+    /**
+     * Interface for per-assignee completion summary projection
+     */
+    interface AssigneeCompletionSummary {
+        Long getUserId();
+        Long getCompletedTasks();
+        Long getLateTasks();
+    }
+
+    /**
+     * Interface for open task load projection
+     */
+    interface OpenTaskLoad {
+        Long getAssigneeId();
+        DifficultyLevel getDifficulty();
+        LocalDate getDeadline();
+    }
+
+    /**
+     * Interface for per-day task count projection
+     */
+    interface DailyTaskCount {
+        Long getGroupId();
+        Long getUserId();
+        LocalDate getDay();
+        Long getTaskCount();
+        Long getLateCount();
+    }
+
+    /**
+     * Interface for per-project task summary projection
+     */
+    interface ProjectTaskSummary {
+        Long getProjectId();
+        Long getTotalTasks();
+        Long getCompletedTasks();
+        Long getOverdueTasks();
+    }
+
+    /**
+     * Interface for task access projection
+     */
+    interface TaskAccess {
+        Long getGroupId();
+        Long getAssigneeId();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.itss.projectmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Bulk write operations for users that bypass per-entity persistence
+ */
+public interface UserBatchRepository {
+
+    /**
+     * Set the last login timestamp of many users using a single JDBC batch
+     * @param lastLogins Last login timestamp per user ID
+     * @return Number of updated rows
+     */
+    int batchUpdateLastLogin(Map<Long, LocalDateTime> lastLogins);
+}
@@ -0,0 +1,36 @@
+package com.itss.projectmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    // Only the login column is written, so concurrent profile edits are not overwritten
+    private static final String UPDATE_LAST_LOGIN_SQL = "UPDATE users SET last_login_at = ? " +
+            "WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchUpdateLastLogin(Map<Long, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, new ArrayList<>(lastLogins.entrySet()), BATCH_SIZE,
+                (ps, lastLogin) -> {
+                    Timestamp loginAt = Timestamp.valueOf(lastLogin.getValue());
+                    ps.setTimestamp(1, loginAt);
+                    ps.setLong(2, lastLogin.getKey());
+                    ps.setTimestamp(3, loginAt);
+                });
+        return lastLogins.size();
+    }
+}
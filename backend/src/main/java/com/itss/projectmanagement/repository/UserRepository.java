@@ -4,16 +4,39 @@ import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBatchRepository {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    List<User> findByEmailIn(Collection<String> emails);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     List<User> findByUsernameIn(List<String> usernames);
+
+    /**
+     * IDs among the given ones that belong to existing users
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Token version and enabled flag of a user, checked against the claims of each authenticated request
+     */
+    @Query("SELECT u.tokenVersion AS tokenVersion, u.enabled AS enabled FROM User u WHERE u.id = :id")
+    Optional<TokenState> findTokenStateById(@Param("id") Long id);
+
+    /**
+     * Interface for token state projection
+     */
+    interface TokenState {
+        Long getTokenVersion();
+        Boolean getEnabled();
+    }
 }
\ No newline at end of file
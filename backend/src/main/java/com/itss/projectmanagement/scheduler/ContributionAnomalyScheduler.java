@@ -0,0 +1,30 @@
+package com.itss.projectmanagement.scheduler;
+
+import com.itss.projectmanagement.service.IContributionAnomalyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ContributionAnomalyScheduler {
+
+    private final IContributionAnomalyService contributionAnomalyService;
+
+    /**
+     * Closes the previous week for every group at the start of each ISO week.
+     * Groups with no commit or task events are advanced here so that a member
+     * who stopped contributing is still compared against the rest of the group.
+     */
+    @Scheduled(cron = "0 5 0 * * MON", zone = "Asia/Ho_Chi_Minh")
+    public void closeWeeklyContributionWindows() {
+        log.info("Scheduled task: Advancing contribution anomaly windows");
+        try {
+            contributionAnomalyService.advanceAllGroups();
+        } catch (Exception e) {
+            log.error("Error advancing contribution anomaly windows: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.service.IContributionScoreService;
 import com.itss.projectmanagement.service.IFreeRiderDetectionService;
+import com.itss.projectmanagement.service.IFreeRiderRiskService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,6 +20,7 @@ public class ContributionScoreScheduler {
 
     private final IContributionScoreService contributionScoreService;
     private final IFreeRiderDetectionService freeRiderDetectionService;
+    private final IFreeRiderRiskService freeRiderRiskService;
     private final ProjectRepository projectRepository;    /**
      * Runs every day at midnight to recalculate contribution scores for all active projects.
      * After calculating scores, it also checks for free riders and sends notifications
@@ -30,7 +32,8 @@ public class ContributionScoreScheduler {
         List<Project> activeProjects = projectRepository.findAllActiveProjects();
         for (Project project : activeProjects) {
             contributionScoreService.calculateScoresForProject(project);
-            log.info("Scheduled task: Contribution scores updated for project {}", project.getName());            
+            log.info("Scheduled task: Contribution scores updated for project {}", project.getName());
+            freeRiderRiskService.refreshProject(project);
             // After updating contribution scores, detect free riders and send notifications
             try {
                 List<UserDTO> freeRiders = freeRiderDetectionService.detectFreeRiders(project.getId());
@@ -43,4 +46,17 @@ public class ContributionScoreScheduler {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs every 5 minutes to recompute free-rider risks of projects whose
+     * contribution scores changed outside the daily run.
+     */
+    @Scheduled(fixedDelay = 300000)
+    public void refreshDirtyFreeRiderRisks() {
+        try {
+            freeRiderRiskService.refreshDirtyProjects();
+        } catch (Exception e) {
+            log.error("Error refreshing free rider risks: {}", e.getMessage(), e);
+        }
+    }
+}
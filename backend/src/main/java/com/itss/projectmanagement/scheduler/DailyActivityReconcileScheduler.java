@@ -0,0 +1,30 @@
+package com.itss.projectmanagement.scheduler;
+
+import com.itss.projectmanagement.service.IDailyActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DailyActivityReconcileScheduler {
+
+    private final IDailyActivityService dailyActivityService;
+
+    /**
+     * Rebuilds the daily activity rollup from tasks and commit records every night,
+     * so counters that drifted from the raw data are corrected within a day.
+     */
+    @Scheduled(cron = "0 30 2 * * ?", zone = "Asia/Ho_Chi_Minh")
+    public void reconcileDailyActivity() {
+        log.info("Scheduled task: Reconciling daily activity");
+        try {
+            dailyActivityService.reconcileAll();
+        } catch (Exception e) {
+            log.error("Error reconciling daily activity: {}", e.getMessage(), e);
+        }
+        log.info("Scheduled task: Completed daily activity reconciliation");
+    }
+}
@@ -0,0 +1,27 @@
+package com.itss.projectmanagement.scheduler;
+
+import com.itss.projectmanagement.service.ILastLoginService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LastLoginFlushScheduler {
+
+    private final ILastLoginService lastLoginService;
+
+    /**
+     * Runs every ten seconds to write the login times buffered since the previous run.
+     */
+    @Scheduled(fixedDelay = 10000, initialDelay = 10000)
+    public void flushLastLogins() {
+        try {
+            lastLoginService.flush();
+        } catch (Exception e) {
+            log.error("Error flushing last login times: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.itss.projectmanagement.scheduler;
+
+import com.itss.projectmanagement.service.INotificationCrudService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationCounterScheduler {
+
+    private final INotificationCrudService notificationCrudService;
+
+    /**
+     * Runs every five minutes to recount the cached unread notification counters.
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000)
+    public void reconcileUnreadCounts() {
+        try {
+            notificationCrudService.reconcileUnreadCounts();
+        } catch (Exception e) {
+            log.error("Error reconciling unread notification counts: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.itss.projectmanagement.scheduler;
+
+import com.itss.projectmanagement.service.INotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private final INotificationOutboxService notificationOutboxService;
+
+    /**
+     * Runs every two seconds to save the notifications queued by committed operations.
+     */
+    @Scheduled(fixedDelay = 2000, initialDelay = 2000)
+    public void dispatchNotifications() {
+        try {
+            notificationOutboxService.dispatch();
+        } catch (Exception e) {
+            log.error("Error dispatching notifications: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.itss.projectmanagement.scheduler;
 
-import com.itss.projectmanagement.entity.PeerReview;
 import com.itss.projectmanagement.repository.PeerReviewRepository;
 import com.itss.projectmanagement.service.IPeerReviewService;
+import com.itss.projectmanagement.service.IPendingReviewService;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,8 +11,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Scheduler for checking peer review completion status and notifying group leaders
@@ -24,6 +23,8 @@ public class PeerReviewScheduler {
 
     private final IPeerReviewService peerReviewService;
     private final PeerReviewRepository peerReviewRepository;
+    private final IPendingReviewService pendingReviewService;
+    private final IProjectDataVersionService projectDataVersionService;
 
     /**
      * Check for incomplete peer reviews that have passed their 24-hour deadline
@@ -33,56 +34,35 @@ public class PeerReviewScheduler {
     public void checkIncompleteReviews() {
         log.info("Running scheduled check for incomplete peer reviews");
         
-        // Get current time
-        LocalDateTime now = LocalDateTime.now();
+        // Reviews assigned more than 24 hours ago that are still incomplete are overdue
+        LocalDateTime cutoffTime = LocalDateTime.now().minusHours(24);
         
-        // Find incomplete reviews that were assigned more than 24 hours ago and have not been notified
-        List<PeerReview> overdueReviews = peerReviewRepository.findByIsCompletedFalseAndCheckNotifiedFalseAndAssignedAtBefore(
-                now.minusHours(24)
-        );
+        // Only the ids of affected projects are loaded; the reviews themselves are updated in bulk
+        List<Long> projectIds = peerReviewRepository.findProjectIdsWithOverdueUnnotifiedReviews(cutoffTime);
         
-        if (overdueReviews.isEmpty()) {
+        if (projectIds.isEmpty()) {
             log.info("No overdue peer reviews found that need notifications");
             return;
         }
         
-        log.info("Found {} overdue peer reviews that need notifications", overdueReviews.size());
+        log.info("Found overdue peer reviews that need notifications in {} projects", projectIds.size());
         
-        // Mark overdue reviews as invalid since they weren't completed within 24 hours
-        int invalidatedCount = 0;
-        for (PeerReview review : overdueReviews) {
-            if (review.getIsValid()) {
-                review.setIsValid(false);
-                invalidatedCount++;
-            }
-        }
-        
-        if (invalidatedCount > 0) {
-            log.info("Marked {} overdue peer reviews as invalid (isValid=false)", invalidatedCount);
-        }
-        
-        // Group reviews by project for efficient processing
-        Map<Long, List<PeerReview>> reviewsByProject = overdueReviews.stream()
-                .collect(Collectors.groupingBy(review -> review.getProject().getId()));
-        
-        // Process each project's overdue reviews
-        for (Map.Entry<Long, List<PeerReview>> entry : reviewsByProject.entrySet()) {
-            Long projectId = entry.getKey();
-            List<PeerReview> projectReviews = entry.getValue();
-            
+        // Process projects one at a time so each chunk of work stays small
+        for (Long projectId : projectIds) {
             try {
-                log.info("Processing {} overdue peer reviews for project ID: {}", 
-                        projectReviews.size(), projectId);
+                List<Long> reviewerIds = peerReviewRepository.findReviewerIdsWithOverdueUnnotifiedReviews(projectId, cutoffTime);
                 
                 // This will check incomplete reviews and notify group leaders
                 peerReviewService.notifyIncompleteReviews(projectId);
                 
-                // Mark these reviews as notified, so we don't process them again
-                projectReviews.forEach(review -> {
-                    review.setCheckNotified(true);
-                    peerReviewRepository.save(review);
-                });
+                // Mark overdue reviews as invalid and notified, so we don't process them again
+                int updated = peerReviewRepository.invalidateAndMarkNotifiedOverdueReviews(projectId, cutoffTime);
+                log.info("Marked {} overdue peer reviews as invalid and notified for project ID: {}", updated, projectId);
                 
+                pendingReviewService.refreshUsers(reviewerIds);
+                if (updated > 0) {
+                    projectDataVersionService.bump(projectId);
+                }
             } catch (Exception e) {
                 log.error("Error checking incomplete reviews for project {}: {}", 
                         projectId, e.getMessage(), e);
@@ -108,4 +88,17 @@ public class PeerReviewScheduler {
         
         log.info("Completed triggering weekly peer review process");
     }
-}
\ No newline at end of file
+    
+    /**
+     * Rebuild the in-memory pending review index every 10 minutes
+     * so that changes made outside the tracked paths (e.g. deleted projects) are picked up
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reloadPendingReviewIndex() {
+        try {
+            pendingReviewService.reload();
+        } catch (Exception e) {
+            log.error("Error reloading pending peer review index: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.itss.projectmanagement.scheduler;
 
+import com.itss.projectmanagement.service.IPressureAnalysisService;
 import com.itss.projectmanagement.service.IPressureScoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 public class PressureScoreScheduler {
 
     private final IPressureScoreService pressureScoreService;
+    private final IPressureAnalysisService pressureAnalysisService;
 
     /**
      * Updates pressure scores for all users in all active projects daily at midnight.
@@ -21,6 +23,8 @@ public class PressureScoreScheduler {
     public void updateDailyPressureScores() {
         log.info("Scheduled task: Starting daily pressure score update");
         pressureScoreService.updateAllPressureScores();
+        // New history rows change the dashboard trend
+        pressureAnalysisService.invalidateAll();
         log.info("Scheduled task: Completed daily pressure score update");
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.itss.projectmanagement.scheduler;
+
+import com.itss.projectmanagement.service.IStatisticsSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StatisticsSnapshotScheduler {
+
+    private final IStatisticsSnapshotService statisticsSnapshotService;
+
+    /**
+     * Runs every minute to recompute statistics snapshots of projects whose
+     * tasks, commits, peer reviews or contribution scores changed.
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void refreshStaleStatisticsSnapshots() {
+        try {
+            statisticsSnapshotService.refreshStaleSnapshots();
+        } catch (Exception e) {
+            log.error("Error refreshing statistics snapshots: {}", e.getMessage(), e);
+        }
+    }
+}
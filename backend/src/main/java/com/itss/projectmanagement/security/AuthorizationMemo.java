@@ -0,0 +1,104 @@
+package com.itss.projectmanagement.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Request-scoped memo shared by the security services and the service layer.
+ * Within one HTTP request every lookup and authorization decision is computed at most once;
+ * outside a request (scheduled jobs, startup) nothing is memoized.
+ */
+@Component
+@Slf4j
+public class AuthorizationMemo {
+
+    private static final String ATTRIBUTE = AuthorizationMemo.class.getName();
+
+    /**
+     * Get the result of a lookup, running it only the first time it is asked for in the current request
+     * @param kind What is looked up, e.g. "task-access"
+     * @param key The key of the lookup, e.g. the task ID
+     * @param loader Loads the value when it is not memoized yet
+     * @return The memoized or freshly loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T lookup(String kind, Object key, Supplier<T> loader) {
+        State state = currentState();
+        if (state == null) {
+            return loader.get();
+        }
+        List<Object> cacheKey = Arrays.asList(kind, key);
+        if (state.values.containsKey(cacheKey)) {
+            state.lookupsSaved++;
+            return (T) state.values.get(cacheKey);
+        }
+        T value = loader.get();
+        state.values.put(cacheKey, value);
+        return value;
+    }
+
+    /**
+     * Get an authorization decision, computing it only the first time it is asked for in the current request
+     * @param check The name of the check, e.g. "group-leader"
+     * @param userId The user the decision is for
+     * @param targetId The group, project, task or user the decision is about
+     * @param decision Computes the decision when it is not memoized yet
+     * @return The memoized or freshly computed decision
+     */
+    public boolean decide(String check, Long userId, Long targetId, BooleanSupplier decision) {
+        State state = currentState();
+        if (state == null) {
+            return decision.getAsBoolean();
+        }
+        List<Object> cacheKey = Arrays.asList(check, userId, targetId);
+        Boolean memoized = state.decisions.get(cacheKey);
+        if (memoized != null) {
+            state.decisionsSaved++;
+            return memoized;
+        }
+        boolean result = decision.getAsBoolean();
+        state.decisions.put(cacheKey, result);
+        return result;
+    }
+
+    private State currentState() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        State state = (State) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            State created = new State();
+            attributes.setAttribute(ATTRIBUTE, created, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(ATTRIBUTE, created::logSavings, RequestAttributes.SCOPE_REQUEST);
+            state = created;
+        }
+        return state;
+    }
+
+    /**
+     * Memoized values and decisions of one request, with counters of what was reused
+     */
+    private static class State {
+        private final Map<List<Object>, Object> values = new HashMap<>();
+        private final Map<List<Object>, Boolean> decisions = new HashMap<>();
+        private int lookupsSaved;
+        private int decisionsSaved;
+
+        private void logSavings() {
+            if (lookupsSaved > 0 || decisionsSaved > 0) {
+                log.debug("Authorization memo saved {} lookups and {} decisions in this request",
+                        lookupsSaved, decisionsSaved);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.itss.projectmanagement.security;
+
+import java.util.Collection;
+
+/**
+ * Published when users join, leave or get assigned to groups, when leadership moves,
+ * or when groups are deleted
+ * @param userIds The users whose group memberships changed
+ */
+public record GroupMembershipChangedEvent(Collection<Long> userIds) {
+}
@@ -1,17 +1,10 @@
 package com.itss.projectmanagement.security;
 
-import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.User;
-import com.itss.projectmanagement.repository.GroupRepository;
-import com.itss.projectmanagement.repository.UserRepository;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
-import org.apache.catalina.security.SecurityUtil;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
-
 /**
  * Service to handle security checks related to Group entities
  */
@@ -19,8 +12,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class GroupSecurityService {
 
-    private final GroupRepository groupRepository;
-    private final UserRepository userRepository;
+    private final MembershipIndex membershipIndex;
+    private final AuthorizationMemo authorizationMemo;
 
     /**
      * Check if a user is the leader of a specific group
@@ -29,24 +22,9 @@ public class GroupSecurityService {
      * @return true if the user is the leader of the group, false otherwise
      */
     public boolean isGroupLeader(Long groupId) {
-        User user = SecurityUtils.getCurrentUser();
-        if (user == null || groupId == null) {
-            return false;
-        }
-
-        try {
-            Optional<Group> groupOpt = groupRepository.findById(groupId);
-            
-            if (groupOpt.isEmpty()) {
-                return false;
-            }
-            
-            Group group = groupOpt.get();
-            return group.getLeader() != null && 
-                   group.getLeader().getId().equals(user.getId());
-        } catch (ClassCastException e) {
-            return false;
-        }
+        Long userId = SecurityUtils.getCurrentUserId();
+        return authorizationMemo.decide("group-leader", userId, groupId,
+                () -> membershipIndex.isGroupLeader(userId, groupId));
     }
     
     /**
@@ -57,31 +35,15 @@ public class GroupSecurityService {
      * @return true if the authenticated user is the leader of any group the specified user belongs to
      */
     public boolean isLeaderOfUserGroup(Object user, Long userId) {
-        if (user == null || userId == null) {
-            return false;
-        }
-
-        try {
-            User authenticatedUser = (User) user;
-            User targetUser = userRepository.findById(userId).orElse(null);
-            
-            if (targetUser == null) {
-                return false;
-            }
-            
-            // Find all groups where the authenticated user is the leader
-            List<Group> ledGroups = groupRepository.findByLeaderId(authenticatedUser.getId());
-            
-            // Check if the target user is a member of any of these groups
-            for (Group group : ledGroups) {
-                if (group.getMembers().contains(targetUser)) {
-                    return true;
-                }
-            }
-            
-            return false;
-        } catch (ClassCastException e) {
+        Long authenticatedUserId;
+        if (user instanceof UserPrincipal userPrincipal) {
+            authenticatedUserId = userPrincipal.getId();
+        } else if (user instanceof User authenticatedUser) {
+            authenticatedUserId = authenticatedUser.getId();
+        } else {
             return false;
         }
+        return authorizationMemo.decide("leader-of-user", authenticatedUserId, userId,
+                () -> membershipIndex.isLeaderOf(authenticatedUserId, userId));
     }
 }
\ No newline at end of file
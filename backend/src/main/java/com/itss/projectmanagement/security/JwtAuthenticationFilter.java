@@ -1,5 +1,6 @@
 package com.itss.projectmanagement.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,8 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -23,7 +22,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,22 +34,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (StringUtils.hasText(jwt)) {
                 log.debug("Processing token for request: " + request.getRequestURI());
-                boolean isValid = jwtTokenProvider.isTokenValid(jwt);
-                log.debug("Token is valid: " + isValid);
+                // Parsed and verified once; tokens seen before come from the verified-token cache
+                Claims claims = jwtTokenProvider.verifyToken(jwt);
+                log.debug("Token is valid: " + (claims != null));
                 
-                if (isValid) {
-                    String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                    log.debug("Username from token: " + username);
+                if (claims != null) {
+                    // The principal is rebuilt from the signed claims; only the token version is checked per user
+                    UserPrincipal principal = jwtTokenProvider.getPrincipalFromClaims(claims);
 
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    log.debug("User authorities: " + userDetails.getAuthorities());
-                    
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    if (principal == null) {
+                        log.warn("JWT token without user claims, a new login is required");
+                    } else if (!tokenVersionCache.isCurrent(principal.getId(), principal.getUser().getTokenVersion())) {
+                        log.warn("Revoked JWT token for user: {}", principal.getUsername());
+                    } else {
+                        log.debug("User authorities: " + principal.getAuthorities());
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Authentication set in SecurityContextHolder");
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                principal, null, principal.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Authentication set in SecurityContextHolder");
+                    }
                 } else {
                     log.warn("Invalid JWT token: {}", jwt);
                 }
@@ -1,27 +1,46 @@
 package com.itss.projectmanagement.security;
 
+import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Collection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
+@Slf4j
 public class JwtTokenProvider {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_FULL_NAME = "name";
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_TOKEN_VERSION = "tv";
+
+    // Maximum number of verified tokens kept, keyed by the SHA-256 hash of the token
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -29,24 +48,81 @@ public class JwtTokenProvider {
     private long jwtExpirationInMs;
     
     private Key key;
+
+    // Thread-safe once built, so the signing key is set up a single time instead of per token
+    private JwtParser parser;
+
+    private final Map<String, Claims> verifiedTokens = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+            return size() > MAX_VERIFIED_TOKENS;
+        }
+    };
     
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Generate a token carrying everything the authentication filter needs to rebuild the principal
+     * without loading the user from the database
+     */
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         
         // Add roles/authorities to the token claims
-        Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
-        List<String> roles = authorities.stream()
-                .map(GrantedAuthority::getAuthority)
+        List<String> roles = user.getRoles().stream()
+                .map(Role::name)
                 .collect(Collectors.toList());
         
-        claims.put("roles", roles);
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLES, roles);
+        claims.put(CLAIM_FULL_NAME, user.getFullName());
+        claims.put(CLAIM_EMAIL, user.getEmail());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
         
-        return createToken(claims, userDetails.getUsername());
+        return createToken(claims, user.getUsername());
+    }
+
+    /**
+     * Rebuild the authenticated principal from the signed claims of a token
+     * @return the principal, or null if the token was issued without the user claims
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        Long userId = getUserIdFromClaims(claims);
+        if (userId == null || getTokenVersionFromClaims(claims) == null) {
+            return null;
+        }
+
+        Set<Role> roles = new HashSet<>();
+        List<?> roleNames = claims.get(CLAIM_ROLES, List.class);
+        if (roleNames != null) {
+            roleNames.forEach(role -> roles.add(Role.valueOf(role.toString())));
+        }
+
+        User user = User.builder()
+                .username(claims.getSubject())
+                .fullName(claims.get(CLAIM_FULL_NAME, String.class))
+                .email(claims.get(CLAIM_EMAIL, String.class))
+                .roles(roles)
+                .tokenVersion(getTokenVersionFromClaims(claims))
+                .build();
+        user.setId(userId);
+        return UserPrincipal.create(user);
+    }
+
+    public Long getUserIdFromClaims(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        return userId != null ? userId.longValue() : null;
+    }
+
+    public Long getTokenVersionFromClaims(Claims claims) {
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return tokenVersion != null ? tokenVersion.longValue() : null;
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -75,33 +151,63 @@ public class JwtTokenProvider {
         return claimsResolver.apply(claims);
     }
 
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Claims getAllClaimsFromToken(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public boolean isTokenValid(String token) {
+    /**
+     * Verify the signature and expiry of a token, parsing it only the first time it is seen.
+     * Tokens verified before are served from a bounded cache until they expire.
+     * @param token The compact JWT
+     * @return the claims of the token, or null if the token is invalid or expired
+     */
+    public Claims verifyToken(String token) {
+        String tokenHash = hash(token);
+        Claims claims;
+        synchronized (verifiedTokens) {
+            claims = verifiedTokens.get(tokenHash);
+        }
+        if (claims != null) {
+            if (!isExpired(claims)) {
+                return claims;
+            }
+            synchronized (verifiedTokens) {
+                verifiedTokens.remove(tokenHash);
+            }
+            return null;
+        }
+
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return !isTokenExpired(token);
+            claims = getAllClaimsFromToken(token);
         } catch (Exception e) {
-            return false;
+            log.debug("Token verification failed: {}", e.getMessage());
+            return null;
+        }
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(tokenHash, claims);
         }
+        return claims;
+    }
+
+    public boolean isTokenValid(String token) {
+        return verifyToken(token) != null;
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        Claims claims = verifyToken(token);
+        return claims != null && claims.getSubject().equals(userDetails.getUsername());
     }
 
-    private boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
-}
\ No newline at end of file
+}
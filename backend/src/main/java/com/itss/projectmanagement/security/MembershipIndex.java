@@ -0,0 +1,134 @@
+package com.itss.projectmanagement.security;
+
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.GroupRepository.UserGroupMembership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded in-memory index of the groups each recently active user belongs to,
+ * used by the authorization checks of the security services.
+ * The groups of a user are loaded with one query and dropped when a {@link GroupMembershipChangedEvent}
+ * for that user is committed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MembershipIndex {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    // Entries are reloaded after this long so changes made by another instance are picked up
+    private static final long TTL_MS = 60_000;
+
+    private final GroupRepository groupRepository;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    // Bumped on every invalidation of a user, guarded by entries; a load only caches its result if unchanged
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    /**
+     * Check if a user is a member or the leader of a group
+     */
+    public boolean isGroupMember(Long userId, Long groupId) {
+        return userId != null && groupId != null && get(userId).groups().containsKey(groupId);
+    }
+
+    /**
+     * Check if a user is a member or the leader of at least one group
+     */
+    public boolean isInAnyGroup(Long userId) {
+        return userId != null && !get(userId).groups().isEmpty();
+    }
+
+    /**
+     * Check if a user is the leader of a group
+     */
+    public boolean isGroupLeader(Long userId, Long groupId) {
+        if (userId == null || groupId == null) {
+            return false;
+        }
+        Membership membership = get(userId).groups().get(groupId);
+        return membership != null && membership.leader();
+    }
+
+    /**
+     * Check if a user is a member or the leader of any group of a project
+     */
+    public boolean isProjectMember(Long userId, Long projectId) {
+        if (userId == null || projectId == null) {
+            return false;
+        }
+        return get(userId).groups().values().stream()
+                .anyMatch(membership -> membership.projectId().equals(projectId));
+    }
+
+    /**
+     * Check if a user leads any group another user belongs to
+     */
+    public boolean isLeaderOf(Long leaderId, Long userId) {
+        if (leaderId == null || userId == null) {
+            return false;
+        }
+        Map<Long, Membership> userGroups = get(userId).groups();
+        return get(leaderId).groups().entrySet().stream()
+                .anyMatch(group -> group.getValue().leader() && userGroups.containsKey(group.getKey()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(GroupMembershipChangedEvent event) {
+        synchronized (entries) {
+            event.userIds().stream()
+                    .filter(Objects::nonNull)
+                    .forEach(userId -> {
+                        entries.remove(userId);
+                        generations.merge(userId, 1L, Long::sum);
+                    });
+        }
+        log.debug("Group memberships of users {} invalidated", event.userIds());
+    }
+
+    private Entry get(Long userId) {
+        long now = System.currentTimeMillis();
+        long generation;
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt() < TTL_MS) {
+                return entry;
+            }
+            generation = generations.getOrDefault(userId, 0L);
+        }
+
+        Map<Long, Membership> groups = new HashMap<>();
+        for (UserGroupMembership membership : groupRepository.findMembershipsByUserId(userId)) {
+            groups.put(membership.getGroupId(),
+                    new Membership(membership.getProjectId(), userId.equals(membership.getLeaderId())));
+        }
+        Entry entry = new Entry(Map.copyOf(groups), now);
+        synchronized (entries) {
+            // Invalidated while loading: the result may predate the change, so it is not cached
+            if (generations.getOrDefault(userId, 0L) == generation) {
+                entries.put(userId, entry);
+            }
+        }
+        return entry;
+    }
+
+    private record Membership(Long projectId, boolean leader) {
+    }
+
+    private record Entry(Map<Long, Membership> groups, long loadedAt) {
+    }
+}
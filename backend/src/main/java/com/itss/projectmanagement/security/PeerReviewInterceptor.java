@@ -1,7 +1,7 @@
 package com.itss.projectmanagement.security;
 
 import com.itss.projectmanagement.entity.User;
-import com.itss.projectmanagement.service.IPeerReviewService;
+import com.itss.projectmanagement.service.IPendingReviewService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +23,7 @@ import java.util.List;
 @Slf4j
 public class PeerReviewInterceptor implements HandlerInterceptor {
 
-    private final IPeerReviewService peerReviewService;
+    private final IPendingReviewService pendingReviewService;
     
     // List of endpoints that are always accessible, even if peer reviews are pending
     private final List<String> allowedEndpoints = Arrays.asList(
@@ -87,7 +87,8 @@ public class PeerReviewInterceptor implements HandlerInterceptor {
         
         // Check if the student user has pending peer reviews
         if (isStudent && userId != null) {
-            boolean hasPendingReviews = peerReviewService.hasPendingPeerReviews(userId);
+            // Lookup in the in-memory pending review index, no database access on the request path
+            boolean hasPendingReviews = pendingReviewService.hasPendingReviews(userId);
             
             if (hasPendingReviews) {
                 log.info("User with ID {} has pending peer reviews, redirecting to peer review page", userId);
@@ -1,17 +1,10 @@
 package com.itss.projectmanagement.security;
 
-import com.itss.projectmanagement.entity.Group;
-import com.itss.projectmanagement.entity.Project;
-import com.itss.projectmanagement.repository.GroupRepository;
-import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
-
 /**
  * Service for handling security-related operations and authorization checks
  */
@@ -20,8 +13,8 @@ import java.util.Optional;
 @Slf4j
 public class SecurityService {
 
-    private final GroupRepository groupRepository;
-    private final ProjectRepository projectRepository;
+    private final MembershipIndex membershipIndex;
+    private final AuthorizationMemo authorizationMemo;
 
     /**
      * Checks if a user is the leader of a specific group
@@ -31,12 +24,8 @@ public class SecurityService {
      * @return True if the user is the leader of the group
      */
     public boolean isProjectGroupLeader(Long userId, Long groupId) {
-        Optional<Group> group = groupRepository.findById(groupId);
-        if (group.isEmpty() || group.get().getLeader() == null) {
-            return false;
-        }
-        
-        return group.get().getLeader().getId().equals(userId);
+        return authorizationMemo.decide("group-leader", userId, groupId,
+                () -> membershipIndex.isGroupLeader(userId, groupId));
     }
     
     /**
@@ -47,18 +36,8 @@ public class SecurityService {
      * @return True if the user is a member of any group in the project
      */
     public boolean isProjectMember(Long userId, Long projectId) {
-        Optional<Project> project = projectRepository.findById(projectId);
-        if (project.isEmpty()) {
-            return false;
-        }
-        
-        List<Group> groups = groupRepository.findByProject(project.get());
-        return groups.stream()
-                .anyMatch(group -> 
-                    group.getMembers().stream()
-                        .anyMatch(member -> member.getId().equals(userId)) ||
-                    (group.getLeader() != null && group.getLeader().getId().equals(userId))
-                );
+        return authorizationMemo.decide("project-member", userId, projectId,
+                () -> membershipIndex.isProjectMember(userId, projectId));
     }
     
     /**
@@ -69,10 +48,7 @@ public class SecurityService {
      */
     public boolean isGroupMember(Long groupId) {
         Long userId = SecurityUtils.getCurrentUserId();
-        Optional<Group> group = groupRepository.findById(groupId);
-        return group.filter(value -> value.getMembers().stream()
-                .anyMatch(member -> member.getId().equals(userId)) ||
-                (value.getLeader() != null && value.getLeader().getId().equals(userId))).isPresent();
-        
+        return authorizationMemo.decide("group-member", userId, groupId,
+                () -> membershipIndex.isGroupMember(userId, groupId));
     }
 }
\ No newline at end of file
@@ -1,8 +1,7 @@
 package com.itss.projectmanagement.security;
 
-import com.itss.projectmanagement.entity.Task;
-import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.TaskRepository.TaskAccess;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +16,8 @@ import java.util.Optional;
 public class TaskSecurityService {
 
     private final TaskRepository taskRepository;
+    private final MembershipIndex membershipIndex;
+    private final AuthorizationMemo authorizationMemo;
     
     /**
      * Check if a user is the leader of the group that a task belongs to
@@ -25,24 +26,15 @@ public class TaskSecurityService {
      * @return true if the user is the leader of the group that owns the task, false otherwise
      */
     public boolean isTaskGroupLeader(Long taskId) {
-        User user = SecurityUtils.getCurrentUser();
-        if (user == null || taskId == null) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (userId == null || taskId == null) {
             return false;
         }
 
-        try {
-            Optional<Task> taskOpt = taskRepository.findById(taskId);
-            
-            if (taskOpt.isEmpty()) {
-                return false;
-            }
-            
-            Task task = taskOpt.get();
-            return task.getGroup().getLeader() != null && 
-                   task.getGroup().getLeader().getId().equals(user.getId());
-        } catch (ClassCastException e) {
-            return false;
-        }
+        return authorizationMemo.decide("task-group-leader", userId, taskId, () ->
+                findTaskAccess(taskId)
+                        .map(task -> membershipIndex.isGroupLeader(userId, task.getGroupId()))
+                        .orElse(false));
     }
 
     /**
@@ -55,38 +47,20 @@ public class TaskSecurityService {
      * @return true if the user can view the task, false otherwise
      */
     public boolean canViewTask(Long taskId) {
-        if (taskId == null) {
-            return false;
-        }
-        
-        try {
-            User authenticatedUser = SecurityUtils.getCurrentUser();
-            Optional<Task> taskOpt = taskRepository.findById(taskId);
-            
-            if (taskOpt.isEmpty()) {
-                return false;
-            }
-            
-            Task task = taskOpt.get();
-            
-            // Check if user is the group leader
-            if (task.getGroup().getLeader() != null && 
-                task.getGroup().getLeader().getId().equals(authenticatedUser.getId())) {
-                return true;
-            }
-            
-            // Check if user is assigned to the task
-            if (task.getAssignee() != null && 
-                task.getAssignee().getId().equals(authenticatedUser.getId())) {
-                return true;
-            }
-            
-            // Check if user is a member of the group
-            return task.getGroup().getMembers().stream()
-                .anyMatch(member -> member.getId().equals(authenticatedUser.getId()));
-                
-        } catch (ClassCastException e) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (userId == null || taskId == null) {
             return false;
         }
+
+        // The group leader is part of the membership index, so one lookup covers leader and members
+        return authorizationMemo.decide("task-view", userId, taskId, () ->
+                findTaskAccess(taskId)
+                        .map(task -> userId.equals(task.getAssigneeId())
+                                || membershipIndex.isGroupMember(userId, task.getGroupId()))
+                        .orElse(false));
+    }
+
+    private Optional<TaskAccess> findTaskAccess(Long taskId) {
+        return authorizationMemo.lookup("task-access", taskId, () -> taskRepository.findAccessById(taskId));
     }
 }
\ No newline at end of file
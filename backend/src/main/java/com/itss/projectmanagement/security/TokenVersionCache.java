@@ -0,0 +1,114 @@
+package com.itss.projectmanagement.security;
+
+import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.repository.UserRepository.TokenState;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of the token version and enabled flag of recently active users.
+ * A token is only accepted while its version claim matches the user's current token version,
+ * so bumping the version revokes every token issued before the change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    // Entries are reloaded after this long so revocations made by another instance are picked up
+    private static final long TTL_MS = 60_000;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    // Bumped on every invalidation of a user, guarded by entries; a load only caches its result if unchanged
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    /**
+     * Check whether a token issued with the given version is still valid for a user
+     * @param userId The user ID from the token
+     * @param tokenVersion The token version from the token
+     * @return true if the user exists, is enabled and the version matches
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        Entry entry = get(userId);
+        if (entry == null) {
+            return false;
+        }
+        return entry.enabled() && entry.tokenVersion() == tokenVersion;
+    }
+
+    /**
+     * Bump the token version of a user so all tokens issued before are rejected once the change is saved.
+     * The cached entry is dropped after the surrounding transaction commits.
+     * @param user The user entity, saved by the caller
+     */
+    public void revoke(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        invalidateAfterCommit(user.getId());
+    }
+
+    /**
+     * Drop the cached entry of a user
+     * @param userId The user ID
+     */
+    public void invalidate(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+            generations.merge(userId, 1L, Long::sum);
+        }
+    }
+
+    private Entry get(Long userId) {
+        long now = System.currentTimeMillis();
+        long generation;
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt() < TTL_MS) {
+                return entry;
+            }
+            generation = generations.getOrDefault(userId, 0L);
+        }
+
+        TokenState state = userRepository.findTokenStateById(userId).orElse(null);
+        if (state == null) {
+            invalidate(userId);
+            return null;
+        }
+        Entry entry = new Entry(state.getTokenVersion(), Boolean.TRUE.equals(state.getEnabled()), now);
+        synchronized (entries) {
+            // Revoked while loading: the result may predate the revocation, so it is not cached
+            if (generations.getOrDefault(userId, 0L) == generation) {
+                entries.put(userId, entry);
+            }
+        }
+        return entry;
+    }
+
+    private void invalidateAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            invalidate(userId);
+            log.debug("Tokens of user {} revoked", userId);
+        });
+    }
+
+    private record Entry(long tokenVersion, boolean enabled, long loadedAt) {
+    }
+}
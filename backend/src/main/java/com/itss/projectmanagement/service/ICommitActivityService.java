@@ -0,0 +1,42 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.entity.CommitRecord;
+import com.itss.projectmanagement.entity.Group;
+import com.itss.projectmanagement.repository.CommitActivityWeekRepository.AuthorWeekActivity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface ICommitActivityService {
+
+    /**
+     * Add a newly ingested commit to the weekly activity cube
+     * @param commitRecord The saved commit record
+     */
+    void recordCommit(CommitRecord commitRecord);
+
+    /**
+     * Rebuild the weekly activity rows of a group from its raw commit records
+     * @param group The group
+     */
+    void rebuildGroup(Group group);
+
+    /**
+     * Get per-author weekly activity for all groups of a project
+     * @param projectId The project ID
+     * @param fromWeek Monday of the first week (inclusive)
+     * @param toWeek Monday of the last week (inclusive)
+     * @return List of weekly activity rows
+     */
+    List<AuthorWeekActivity> getAuthorActivity(Long projectId, LocalDate fromWeek, LocalDate toWeek);
+
+    /**
+     * Get the total number of commits per week for a project
+     * @param projectId The project ID
+     * @param fromWeek Monday of the first week (inclusive)
+     * @param toWeek Monday of the last week (inclusive)
+     * @return Map of week start date to commit count
+     */
+    Map<LocalDate, Long> getWeeklyCommitCounts(Long projectId, LocalDate fromWeek, LocalDate toWeek);
+}
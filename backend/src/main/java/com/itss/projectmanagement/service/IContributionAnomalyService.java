@@ -0,0 +1,33 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.entity.CommitRecord;
+import com.itss.projectmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+
+public interface IContributionAnomalyService {
+
+    /**
+     * Feed a newly ingested commit into the sliding-window rates of its group once the current transaction commits
+     * @param commitRecord The saved commit record
+     */
+    void onCommit(CommitRecord commitRecord);
+
+    /**
+     * Feed a task completion into the sliding-window rates of its group once the current transaction commits
+     * @param task The task that has just been completed
+     */
+    void onTaskCompleted(Task task);
+
+    /**
+     * Take a completion back out of the sliding-window rates once the task leaving COMPLETED is committed
+     * @param task The task that is no longer completed
+     * @param completedAt When the task had been completed
+     */
+    void onTaskReopened(Task task, LocalDateTime completedAt);
+
+    /**
+     * Close elapsed weeks for every group, including groups without recent activity
+     */
+    void advanceAllGroups();
+}
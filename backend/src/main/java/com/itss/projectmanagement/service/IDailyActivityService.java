@@ -0,0 +1,85 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.entity.CommitRecord;
+import com.itss.projectmanagement.entity.Project;
+import com.itss.projectmanagement.entity.Task;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.repository.DailyActivityRepository.DayTotals;
+import com.itss.projectmanagement.repository.DailyActivityRepository.MemberDay;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IDailyActivityService {
+
+    /**
+     * Add a newly ingested commit to the daily activity rollup
+     * @param commitRecord The saved commit record
+     */
+    void recordCommit(CommitRecord commitRecord);
+
+    /**
+     * Move the contribution of a task in the daily activity rollup from its previous state to its current one
+     * @param before The task before the change, null for a new task
+     * @param after The task after the change, null for a deleted task
+     */
+    void recordTaskChange(TaskFootprint before, TaskFootprint after);
+
+    /**
+     * Rebuild the daily activity rows of a project from its raw tasks and commit records
+     * @param project The project
+     */
+    void rebuildProject(Project project);
+
+    /**
+     * Rebuild the daily activity rows of every project, each in its own transaction,
+     * to correct any drift of the incremental counters
+     */
+    void reconcileAll();
+
+    /**
+     * Get the project-wide activity totals per day
+     * @param projectId The project ID
+     * @param fromDay First day (inclusive)
+     * @param toDay Last day (inclusive)
+     * @return List of daily totals, days without activity are omitted
+     */
+    List<DayTotals> getDailyTotals(Long projectId, LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Get per-member daily activity for all groups of a project
+     * @param projectId The project ID
+     * @param fromDay First day (inclusive)
+     * @param toDay Last day (inclusive)
+     * @return List of daily activity rows
+     */
+    List<MemberDay> getMemberDays(Long projectId, LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Get per-member daily task activity of a project over its whole lifetime
+     * @param projectId The project ID
+     * @return List of daily activity rows with task activity
+     */
+    List<MemberDay> getTaskDays(Long projectId);
+
+    /**
+     * What a task contributes to the rollup: created on one day, and completed (possibly late) on another
+     */
+    record TaskFootprint(Long projectId, Long groupId, Long userId,
+                         LocalDate createdDay, LocalDate completedDay, boolean late) {
+
+        public static TaskFootprint of(Task task) {
+            LocalDate completedDay = task.getStatus() == TaskStatus.COMPLETED && task.getCompletedAt() != null
+                    ? task.getCompletedAt().toLocalDate()
+                    : null;
+            boolean late = completedDay != null && task.getDeadline() != null && completedDay.isAfter(task.getDeadline());
+            return new TaskFootprint(
+                    task.getGroup().getProject().getId(),
+                    task.getGroup().getId(),
+                    task.getAssignee() != null ? task.getAssignee().getId() : null,
+                    task.getCreatedAt() != null ? task.getCreatedAt().toLocalDate() : null,
+                    completedDay,
+                    late);
+        }
+    }
+}
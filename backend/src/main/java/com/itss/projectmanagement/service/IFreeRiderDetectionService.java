@@ -4,7 +4,10 @@ import com.itss.projectmanagement.dto.response.freerider.FreeRiderCaseDTO;
 import com.itss.projectmanagement.dto.response.user.UserDTO;
 import com.itss.projectmanagement.entity.FreeRiderCase;
 import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.ReportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -40,6 +43,13 @@ public interface IFreeRiderDetectionService {
      * @return Risk score (0-1 scale, higher means higher risk)
      */
     Double calculateFreeRiderRiskScore(Long userId, Long projectId);
+
+    /**
+     * Get the time the stored free rider risk scores of a project were computed
+     * @param projectId The ID of the project
+     * @return Computation time, or null if risks were never computed
+     */
+    LocalDateTime getRiskScoresComputedAt(Long projectId);
     
     /**
      * Generate report for team leaders about potential free riders
@@ -48,6 +58,15 @@ public interface IFreeRiderDetectionService {
      */
     String generateFreeRiderReport(Long projectId);
 
+    /**
+     * Stream the free rider report group by group so that memory use stays flat
+     * and the first bytes reach the client immediately
+     * @param projectId The ID of the project
+     * @param format Output format (TEXT keeps the layout of generateFreeRiderReport, CSV has one row per member)
+     * @return Response body that writes the report when invoked
+     */
+    StreamingResponseBody streamFreeRiderReport(Long projectId, ReportFormat format);
+
     /**
      * Get detailed evidence for a specific free rider
      * @param userId The ID of the user
@@ -0,0 +1,59 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.entity.FreeRiderRisk;
+import com.itss.projectmanagement.entity.Project;
+import com.itss.projectmanagement.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface IFreeRiderRiskService {
+
+    /**
+     * Recompute and store free-rider risks for all members of a project
+     * @param project The project
+     */
+    void refreshProject(Project project);
+
+    /**
+     * Flag a project whose contribution scores changed since the last refresh.
+     * Call it once the score change is committed, so a refresh cannot clear the flag while reading the old scores.
+     * @param projectId The project ID
+     */
+    void markDirty(Long projectId);
+
+    /**
+     * Refresh every project flagged as dirty
+     */
+    void refreshDirtyProjects();
+
+    /**
+     * Get the stored risks of a project, refreshing first if they are missing or dirty
+     * @param project The project
+     * @return List of free-rider risks
+     */
+    List<FreeRiderRisk> getProjectRisks(Project project);
+
+    /**
+     * Get the stored risk of a user in a project, refreshing first if missing or dirty
+     * @param project The project
+     * @param userId The user ID
+     * @return The risk if the user was scored in the last refresh
+     */
+    Optional<FreeRiderRisk> getUserRisk(Project project, Long userId);
+
+    /**
+     * Get the users flagged as free riders in the stored risks of a project
+     * @param project The project
+     * @return List of free riders
+     */
+    List<User> getFreeRiders(Project project);
+
+    /**
+     * Get the time the stored risks of a project were computed
+     * @param projectId The project ID
+     * @return Computation time or null if never computed
+     */
+    LocalDateTime getComputedAt(Long projectId);
+}
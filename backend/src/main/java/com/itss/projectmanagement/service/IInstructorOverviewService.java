@@ -0,0 +1,12 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.dto.response.project.InstructorOverviewDTO;
+
+public interface IInstructorOverviewService {
+
+    /**
+     * Get headline metrics for every project of the current instructor
+     * @return Overview with one entry per project, newest first
+     */
+    InstructorOverviewDTO getInstructorOverview();
+}
@@ -0,0 +1,19 @@
+package com.itss.projectmanagement.service;
+
+import java.time.LocalDateTime;
+
+public interface ILastLoginService {
+
+    /**
+     * Buffer the login time of a user; only the latest time per user is kept until the next flush
+     * @param userId The user ID
+     * @param loginAt The login time
+     */
+    void record(Long userId, LocalDateTime loginAt);
+
+    /**
+     * Write all buffered login times with one batched update
+     * @return Number of users written
+     */
+    int flush();
+}
@@ -4,15 +4,19 @@ import com.itss.projectmanagement.dto.response.notification.NotificationDTO;
 import com.itss.projectmanagement.dto.response.notification.NotificationResponseDTO;
 import com.itss.projectmanagement.entity.User;
 
+import java.util.List;
+
 public interface INotificationCrudService {
     
     /**
-     * Get all notifications for the current user
+     * Get one page of the notification feed of the current user, newest first
      * 
      * @param user Current user
-     * @return NotificationResponseDTO containing list of notifications and unread count
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Maximum number of notifications to return
+     * @return NotificationResponseDTO containing the page, the cursor of the next page and the unread count
      */
-    NotificationResponseDTO getUserNotifications(User user);
+    NotificationResponseDTO getUserNotifications(User user, String cursor, int size);
     
     /**
      * Mark a notification as read
@@ -47,4 +51,18 @@ public interface INotificationCrudService {
      * @return The created notification
      */
     NotificationDTO createNotification(NotificationDTO notification);
+    
+    /**
+     * Create many notifications with one recipient lookup and one batched insert.
+     * Notifications of unknown users are skipped; any other failure is thrown so the caller can retry.
+     * 
+     * @param notifications The notifications to create
+     * @return Number of notifications created
+     */
+    int createNotifications(List<NotificationDTO> notifications);
+
+    /**
+     * Recount the cached unread counters from the database
+     */
+    void reconcileUnreadCounts();
 }
@@ -0,0 +1,22 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.dto.response.notification.NotificationDTO;
+
+import java.util.List;
+
+public interface INotificationOutboxService {
+
+    /**
+     * Queue notifications for delivery. Inside a transaction they are queued only once it commits,
+     * so a rolled back operation sends nothing. When the outbox is full new notifications are dropped.
+     * @param notifications Notifications with the recipient user ID, title, message and type set
+     */
+    void enqueue(List<NotificationDTO> notifications);
+
+    /**
+     * Save queued notifications in batches. When a batch fails its notifications are saved one by one,
+     * and only those that still fail are queued again for the next run
+     * @return Number of notifications saved
+     */
+    int dispatch();
+}
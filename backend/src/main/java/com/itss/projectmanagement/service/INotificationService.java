@@ -1,8 +1,10 @@
 package com.itss.projectmanagement.service;
 
+import com.itss.projectmanagement.dto.response.notification.NotificationDTO;
 import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.User;
 
+import java.util.List;
 import java.util.Map;
 
 public interface INotificationService {
@@ -34,6 +36,13 @@ public interface INotificationService {
      */
     void notifyUser(User user, String title, String message, String type, String link);
     
+    /**
+     * Notifies many users at once, saving every notification in one batch
+     * 
+     * @param notifications Notifications to send; a missing type defaults to GENERAL
+     */
+    void notifyUsers(List<NotificationDTO> notifications);
+    
     /**
      * Thông báo cho giảng viên về free-rider được phát hiện
      *
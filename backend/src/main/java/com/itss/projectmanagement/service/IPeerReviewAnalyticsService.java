@@ -0,0 +1,20 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.dto.response.peer.PeerReviewAnalyticsDTO;
+
+public interface IPeerReviewAnalyticsService {
+
+    /**
+     * Get peer review analytics of a project, served from cache until reviews or tasks of the project change
+     * @param projectId The ID of the project
+     * @return The project analytics
+     */
+    PeerReviewAnalyticsDTO getProjectAnalytics(Long projectId);
+
+    /**
+     * Drop cached analytics of a project after its reviews or tasks changed.
+     * Inside a transaction the analytics are dropped once it commits.
+     * @param projectId The ID of the project
+     */
+    void invalidate(Long projectId);
+}
@@ -0,0 +1,32 @@
+package com.itss.projectmanagement.service;
+
+import java.util.Collection;
+
+public interface IPendingReviewService {
+
+    /**
+     * Check whether a user still has incomplete, valid peer reviews to submit.
+     * Served from memory without touching the database.
+     * @param userId The ID of the user
+     * @return true if the user has pending peer reviews
+     */
+    boolean hasPendingReviews(Long userId);
+
+    /**
+     * Get the number of incomplete, valid peer reviews of a user
+     * @param userId The ID of the user
+     * @return The pending review count
+     */
+    int getPendingCount(Long userId);
+
+    /**
+     * Recount pending reviews of the given users after their reviews were assigned, submitted or invalidated
+     * @param userIds The IDs of the reviewers whose reviews changed
+     */
+    void refreshUsers(Collection<Long> userIds);
+
+    /**
+     * Rebuild the whole pending review index from the database
+     */
+    void reload();
+}
@@ -0,0 +1,30 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO.PressureScoreAnalysis;
+import com.itss.projectmanagement.entity.Project;
+
+import java.util.List;
+
+public interface IPressureAnalysisService {
+
+    /**
+     * Get the pressure analysis of a project without recording any pressure score history.
+     * The result is cached per project until its tasks change or the day rolls over.
+     * @param project The project
+     * @param memberIds The IDs of the group members to analyse
+     * @return The pressure analysis section
+     */
+    PressureScoreAnalysis getPressureAnalysis(Project project, List<Long> memberIds);
+
+    /**
+     * Drop the cached analysis of a project after its tasks changed.
+     * Inside a transaction the analysis is dropped once it commits.
+     * @param projectId The ID of the project
+     */
+    void invalidate(Long projectId);
+
+    /**
+     * Drop every cached analysis, e.g. after pressure score history was recorded for all projects
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,30 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.entity.ProjectDataVersion;
+
+import java.util.Optional;
+
+public interface IProjectDataVersionService {
+
+    /**
+     * Increment the data version of a project.
+     * Inside a transaction the increment happens once per project after commit, so a reader that
+     * sees the new version also sees the data that caused it.
+     * @param projectId The ID of the project
+     */
+    void bump(Long projectId);
+
+    /**
+     * Get the current data version of a project
+     * @param projectId The ID of the project
+     * @return The data version, 0 if the project data never changed since versions were tracked
+     */
+    long getVersion(Long projectId);
+
+    /**
+     * Get the data version row of a project, including when it was last bumped
+     * @param projectId The ID of the project
+     * @return The data version row, empty if the project data never changed since versions were tracked
+     */
+    Optional<ProjectDataVersion> findVersion(Long projectId);
+}
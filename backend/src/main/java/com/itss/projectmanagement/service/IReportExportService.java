@@ -0,0 +1,31 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.enums.ReportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface IReportExportService {
+
+    /**
+     * Stream the member report of a project (one row per member)
+     * @param projectId The ID of the project
+     * @param format CSV or XLSX
+     * @return The response body writing the export
+     */
+    StreamingResponseBody exportMemberReports(Long projectId, ReportFormat format);
+
+    /**
+     * Stream the contribution scores of a project
+     * @param projectId The ID of the project
+     * @param format CSV or XLSX
+     * @return The response body writing the export
+     */
+    StreamingResponseBody exportContributionScores(Long projectId, ReportFormat format);
+
+    /**
+     * Stream per-author commit totals of every group of a project
+     * @param projectId The ID of the project
+     * @param format CSV or XLSX
+     * @return The response body writing the export
+     */
+    StreamingResponseBody exportCommitSummaries(Long projectId, ReportFormat format);
+}
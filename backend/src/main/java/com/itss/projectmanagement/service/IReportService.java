@@ -4,4 +4,13 @@ import com.itss.projectmanagement.dto.response.report.ProjectReportDTO;
 
 public interface IReportService {
     ProjectReportDTO getProjectReport(Long projectId);
+
+    /**
+     * Get the project report for one page of members, ordered by member name
+     * @param projectId The ID of the project
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @return The report with pagination metadata
+     */
+    ProjectReportDTO getProjectReport(Long projectId, int page, int size);
 }
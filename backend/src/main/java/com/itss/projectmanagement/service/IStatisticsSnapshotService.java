@@ -0,0 +1,28 @@
+package com.itss.projectmanagement.service;
+
+import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO;
+
+public interface IStatisticsSnapshotService {
+
+    /**
+     * Get the latest materialized statistics of a project together with their staleness.
+     * Statistics are only computed on the request path when the project has no snapshot yet.
+     * @param projectId The ID of the project
+     * @return The project statistics
+     */
+    ProjectStatisticsDTO getProjectStatistics(Long projectId);
+
+    /**
+     * Get a tag identifying the stored snapshot of a project, made of its data version and the day it was computed on.
+     * The tag changes whenever a refresh replaces the snapshot, including the daily refresh of quiet projects.
+     * @param projectId The ID of the project
+     * @return The snapshot tag, "none" if the project has no snapshot yet
+     */
+    String getSnapshotTag(Long projectId);
+
+    /**
+     * Recompute the snapshot of every project whose data changed since its snapshot was taken,
+     * or whose snapshot was taken before today
+     */
+    void refreshStaleSnapshots();
+}
@@ -40,9 +40,22 @@ public interface IUserService {
 
     User updateUser(User user);
 
+    /**
+     * Update a user, optionally revoking every token issued to the user before the update
+     * @param user The user to save
+     * @param revokeTokens Whether a field carried by the token (username, full name, email, roles, enabled flag)
+     *                     or the password changed
+     * @return The saved user
+     */
+    User updateUser(User user, boolean revokeTokens);
+
     void deleteUser(Long id);
 
-    void updateLastLogin(String username);
+    /**
+     * Record a login; the timestamp is buffered and written in the background
+     * @param userId The user ID
+     */
+    void updateLastLogin(Long userId);
 
     /**
      * Get user entity by ID (for internal service use)
@@ -0,0 +1,11 @@
+package com.itss.projectmanagement.service;
+
+import java.util.Collection;
+
+/**
+ * Published when tasks are created, updated, reassigned, moved between groups or deleted.
+ * Listeners that refresh derived project data handle it after the transaction commits.
+ * @param projectIds The projects whose tasks changed
+ */
+public record TaskChangedEvent(Collection<Long> projectIds) {
+}
@@ -3,27 +3,29 @@ package com.itss.projectmanagement.service.impl;
 import com.itss.projectmanagement.dto.response.chart.CommitCountChartDTO;
 import com.itss.projectmanagement.dto.response.chart.ProgressTimelineChartDTO;
 import com.itss.projectmanagement.dto.response.chart.ContributionPieChartDTO;
-import com.itss.projectmanagement.entity.CommitRecord;
 import com.itss.projectmanagement.entity.Project;
-import com.itss.projectmanagement.entity.Task;
 import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.entity.Group;
-import com.itss.projectmanagement.entity.ContributionScore;
-import com.itss.projectmanagement.enums.TaskStatus;
 import com.itss.projectmanagement.repository.CommitRecordRepository;
+import com.itss.projectmanagement.repository.DailyActivityRepository;
 import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.ProjectRepository;
-import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.UserRepository;
 import com.itss.projectmanagement.repository.ContributionScoreRepository;
 import com.itss.projectmanagement.service.IChartService;
+import com.itss.projectmanagement.service.IDailyActivityService;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import com.itss.projectmanagement.exception.ResourceNotFoundException;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -31,58 +33,43 @@ public class ChartServiceImpl implements IChartService {
     private final CommitRecordRepository commitRecordRepository;
     private final ProjectRepository projectRepository;
     private final GroupRepository groupRepository;
-    private final TaskRepository taskRepository;
     private final ContributionScoreRepository contributionScoreRepository;
+    private final UserRepository userRepository;
+    private final IProjectDataVersionService projectDataVersionService;
+    private final IDailyActivityService dailyActivityService;
 
-    @Override
-    public CommitCountChartDTO getCommitCountChart(Long projectId, String rangeType) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
-        
-        // Get all groups in the project
-        List<Group> groups = groupRepository.findByProject(project);
-        
-        // Calculate date range based on rangeType
-        LocalDateTime startDate = calculateStartDate(rangeType);
-        
-        // Get all valid commits for all groups in the project within date range
-        List<CommitRecord> commits = new ArrayList<>();
-        for (Group group : groups) {
-            List<CommitRecord> groupCommits = commitRecordRepository.findByGroupAndValidAndTimestampAfter(
-                group, true, startDate);
-            commits.addAll(groupCommits);
-        }
-        
-        // Count commits grouped by task assignee
-        return getCommitCountChartDTO(commits);
-    }
+    private static final Duration CHART_CACHE_TTL = Duration.ofMinutes(5);
+    private static final int CHART_CACHE_MAX_ENTRIES = 1_000;
 
-    private static CommitCountChartDTO getCommitCountChartDTO(List<CommitRecord> commits) {
-        Map<User, Long> commitCounts = new HashMap<>();
-        for (CommitRecord commit : commits) {
-            if (commit.getTask() != null && commit.getTask().getAssignee() != null) {
-                User assignee = commit.getTask().getAssignee();
-                commitCounts.put(assignee, commitCounts.getOrDefault(assignee, 0L) + 1);
-            }
+    // Least recently used entries are evicted beyond CHART_CACHE_MAX_ENTRIES; guarded by itself
+    private final Map<ChartCacheKey, CachedChart> chartCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ChartCacheKey, CachedChart> eldest) {
+            return size() > CHART_CACHE_MAX_ENTRIES
+                    || eldest.getValue().computedAt().plus(CHART_CACHE_TTL).isBefore(LocalDateTime.now());
         }
-        // Build DTO
-        CommitCountChartDTO result = new CommitCountChartDTO();
-        List<CommitCountChartDTO.MemberCommitCount> data = getMemberCommitCounts(commitCounts);
-        result.setData(data);
-        return result;
-    }
+    };
 
-    private static List<CommitCountChartDTO.MemberCommitCount> getMemberCommitCounts(Map<User, Long> commitCounts) {
-        List<CommitCountChartDTO.MemberCommitCount> data = new ArrayList<>();
-        for (Map.Entry<User, Long> entry : commitCounts.entrySet()) {
-            User member = entry.getKey();
-            CommitCountChartDTO.MemberCommitCount memberData = new CommitCountChartDTO.MemberCommitCount();
-            memberData.setMemberId(member.getId());
-            memberData.setMemberName(member.getFullName());
-            memberData.setCommitCount(entry.getValue().intValue());
-            data.add(memberData);
-        }
-        return data;
+    @Override
+    public CommitCountChartDTO getCommitCountChart(Long projectId, String rangeType) {
+        return cached("commits", projectId, rangeType, () -> {
+            // Calculate date range based on rangeType
+            LocalDateTime startDate = calculateStartDate(rangeType);
+            
+            // Count valid commits grouped by task assignee in the database
+            List<CommitCountChartDTO.MemberCommitCount> data = new ArrayList<>();
+            for (CommitRecordRepository.AssigneeCommitCount count :
+                    commitRecordRepository.countValidCommitsByAssignee(projectId, startDate)) {
+                CommitCountChartDTO.MemberCommitCount memberData = new CommitCountChartDTO.MemberCommitCount();
+                memberData.setMemberId(count.getMemberId());
+                memberData.setMemberName(count.getMemberName());
+                memberData.setCommitCount(count.getCommitCount().intValue());
+                data.add(memberData);
+            }
+            CommitCountChartDTO result = new CommitCountChartDTO();
+            result.setData(data);
+            return result;
+        });
     }
 
     @Override
@@ -90,130 +77,176 @@ public class ChartServiceImpl implements IChartService {
         Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
         
-        // Get all groups in the project
-        List<Group> groups = groupRepository.findByProject(project);
-        
         // Calculate date range based on rangeType
-        LocalDateTime startDate = calculateStartDate(rangeType);
-        LocalDateTime endDate = LocalDateTime.now();
-        
-        // Create a list of dates from startDate to endDate
-        List<LocalDate> dateList = generateDateList(startDate.toLocalDate(), endDate.toLocalDate());
-        
-        // Get all tasks for all groups in the project
-        List<Task> allTasks = new ArrayList<>();
-        for (Group group : groups) {
-            List<Task> groupTasks = taskRepository.findByGroup(group);
-            allTasks.addAll(groupTasks);
+        LocalDate startDate = calculateStartDate(rangeType).toLocalDate();
+        LocalDate endDate = LocalDate.now();
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        
+        // Bucket completions by day for the project, each group and each assignee in one pass over the daily rollup
+        ProgressCounter projectCounter = new ProgressCounter(days);
+        Map<Long, ProgressCounter> groupCounters = new LinkedHashMap<>();
+        Map<Long, ProgressCounter> memberCounters = new LinkedHashMap<>();
+        for (DailyActivityRepository.MemberDay activity : dailyActivityService.getTaskDays(projectId)) {
+            int day = dayIndex(activity.getDay(), startDate, days);
+            projectCounter.add(activity, day);
+            groupCounters.computeIfAbsent(activity.getGroupId(), id -> new ProgressCounter(days)).add(activity, day);
+            if (activity.getUserId() != null) {
+                memberCounters.computeIfAbsent(activity.getUserId(), id -> new ProgressCounter(days)).add(activity, day);
+            }
         }
         
-        // Calculate progress percentage for each date
-        List<ProgressTimelineChartDTO.ProgressPoint> timeline = new ArrayList<>();
-        for (LocalDate date : dateList) {
-            double progressPercent = calculateProgressPercentForDate(allTasks, date);
-            
-            ProgressTimelineChartDTO.ProgressPoint point = new ProgressTimelineChartDTO.ProgressPoint();
-            point.setDate(date.toString());
-            point.setProgressPercent(progressPercent);
-            timeline.add(point);
+        Map<Long, String> groupNames = new HashMap<>();
+        for (Group group : groupRepository.findByProject(project)) {
+            groupNames.put(group.getId(), group.getName());
+        }
+        Map<Long, String> memberNames = new HashMap<>();
+        for (User member : userRepository.findAllById(memberCounters.keySet())) {
+            memberNames.put(member.getId(), member.getFullName());
         }
         
         // Create and return the DTO
         ProgressTimelineChartDTO result = new ProgressTimelineChartDTO();
-        result.setTimeline(timeline);
+        result.setTimeline(projectCounter.toTimeline(startDate));
+        result.setGroupSeries(toSeries(groupCounters, groupNames, startDate));
+        result.setMemberSeries(toSeries(memberCounters, memberNames, startDate));
         return result;
     }
 
     @Override
     public ContributionPieChartDTO getContributionPieChart(Long projectId, String rangeType) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
-        
-        // Get contribution scores for the project
-        List<ContributionScore> contributionScores = contributionScoreRepository.findByProject(project);
-        
-        // Calculate date range based on rangeType if needed
-        // For now, we'll use all contribution scores regardless of date
-        
-        // Calculate total score for percentage calculation
-        double totalScore = contributionScores.stream()
-            .mapToDouble(score -> {
-                // Get the contribution score (use adjusted if it exists, otherwise use calculated)
-                Double contributionScore = score.getAdjustedScore() != null && score.getAdjustedScore() > 0 
-                    ? score.getAdjustedScore() 
-                    : score.getCalculatedScore();
-                return contributionScore != null ? contributionScore : 0.0;
-            })
-            .sum();
-        
-        // Create the DTO
-        ContributionPieChartDTO result = new ContributionPieChartDTO();
-        List<ContributionPieChartDTO.MemberContribution> data = new ArrayList<>();
-        
-        for (ContributionScore score : contributionScores) {
-            ContributionPieChartDTO.MemberContribution memberData = getMemberContribution(score, totalScore);
+        // Contribution scores are not time-bound, so every range shares one entry
+        return cached("contribution", projectId, "all", () -> {
+            // Effective scores (adjusted if it exists, otherwise calculated) come straight from the database
+            List<ContributionScoreRepository.MemberScore> scores =
+                    contributionScoreRepository.findEffectiveScoresByProject(projectId);
+            
+            // Calculate total score for percentage calculation
+            double totalScore = scores.stream()
+                .mapToDouble(score -> score.getScore() != null ? score.getScore() : 0.0)
+                .sum();
+            
+            List<ContributionPieChartDTO.MemberContribution> data = new ArrayList<>();
+            for (ContributionScoreRepository.MemberScore score : scores) {
+                ContributionPieChartDTO.MemberContribution memberData = new ContributionPieChartDTO.MemberContribution();
+                memberData.setMemberId(score.getMemberId());
+                memberData.setMemberName(score.getMemberName());
+                double contributionPercent = 0;
+                if (totalScore > 0 && score.getScore() != null) {
+                    contributionPercent = (score.getScore() / totalScore) * 100;
+                }
+                memberData.setContributionPercent(contributionPercent);
+                data.add(memberData);
+            }
+            
+            ContributionPieChartDTO result = new ContributionPieChartDTO();
+            result.setData(data);
+            return result;
+        });
+    }
 
-            data.add(memberData);
+    /**
+     * Serve a chart payload from the cache while the project data version is unchanged.
+     * Entries also expire after CHART_CACHE_TTL because week/month ranges slide with the current time.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String chart, Long projectId, String rangeType, Supplier<T> loader) {
+        // Unknown ranges fall back to the whole project, so they share its entry instead of adding their own
+        ChartCacheKey key = new ChartCacheKey(chart, projectId, normalizeRange(rangeType));
+        long version = projectDataVersionService.getVersion(projectId);
+        CachedChart cached;
+        synchronized (chartCache) {
+            cached = chartCache.get(key);
         }
-        
-        result.setData(data);
-        return result;
-    }    
-    
-    private static ContributionPieChartDTO.MemberContribution getMemberContribution(ContributionScore score, double totalScore) {
-        ContributionPieChartDTO.MemberContribution memberData = new ContributionPieChartDTO.MemberContribution();
-        memberData.setMemberId(score.getUser().getId());
-        memberData.setMemberName(score.getUser().getFullName());
-
-        // Calculate percentage
-        double contributionPercent = 0;
-        // Get the contribution score (use adjusted if it exists, otherwise use calculated)
-        Double contributionScore = score.getAdjustedScore() != null && score.getAdjustedScore() > 0 
-            ? score.getAdjustedScore() 
-            : score.getCalculatedScore();
-            
-        if (totalScore > 0 && contributionScore != null) {
-            contributionPercent = (contributionScore / totalScore) * 100;
+        if (cached != null && cached.dataVersion() == version
+                && cached.computedAt().plus(CHART_CACHE_TTL).isAfter(LocalDateTime.now())) {
+            return (T) cached.payload();
         }
-        memberData.setContributionPercent(contributionPercent);
-        return memberData;
+
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        T payload = loader.get();
+        synchronized (chartCache) {
+            chartCache.put(key, new CachedChart(version, LocalDateTime.now(), payload));
+        }
+        return payload;
     }
 
     // Helper method to calculate start date based on range type
     private LocalDateTime calculateStartDate(String rangeType) {
         LocalDateTime now = LocalDateTime.now();
-        return switch (rangeType) {
+        return switch (normalizeRange(rangeType)) {
             case "week" -> now.minusWeeks(1);
             case "month" -> now.minusMonths(1);
             default -> LocalDateTime.of(2025, 5, 1, 0, 0, 0, 0); // Start of May 2025
         };
     }
+
+    // The ranges calculateStartDate distinguishes; anything else means the whole project
+    private static String normalizeRange(String rangeType) {
+        return "week".equals(rangeType) || "month".equals(rangeType) ? rangeType : "all";
+    }
     
-    // Helper method to generate a list of dates between start and end dates
-    private List<LocalDate> generateDateList(LocalDate startDate, LocalDate endDate) {
-        List<LocalDate> dateList = new ArrayList<>();
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            dateList.add(currentDate);
-            currentDate = currentDate.plusDays(1);
+    // Day index (from the range start) of an activity day, days before the range count from its first day
+    private static int dayIndex(LocalDate activityDay, LocalDate startDate, int days) {
+        long day = ChronoUnit.DAYS.between(startDate, activityDay);
+        if (day >= days) {
+            return ProgressCounter.OUT_OF_RANGE;
         }
-        return dateList;
+        return (int) Math.max(0, day);
     }
-    
-    // Helper method to calculate progress percentage for a specific date
-    private double calculateProgressPercentForDate(List<Task> tasks, LocalDate date) {
-        if (tasks.isEmpty()) {
-            return 0.0;
+
+    private static List<ProgressTimelineChartDTO.ProgressSeries> toSeries(
+            Map<Long, ProgressCounter> counters, Map<Long, String> names, LocalDate startDate) {
+        List<ProgressTimelineChartDTO.ProgressSeries> series = new ArrayList<>();
+        for (Map.Entry<Long, ProgressCounter> entry : counters.entrySet()) {
+            ProgressTimelineChartDTO.ProgressSeries item = new ProgressTimelineChartDTO.ProgressSeries();
+            item.setId(entry.getKey());
+            item.setName(names.get(entry.getKey()));
+            item.setTimeline(entry.getValue().toTimeline(startDate));
+            series.add(item);
         }
-        
-        long totalTasks = tasks.size();
-        long completedTasks = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && 
-                   (task.getUpdatedAt() == null || 
-                    task.getUpdatedAt().toLocalDate().isBefore(date) || 
-                    task.getUpdatedAt().toLocalDate().isEqual(date)))
-            .count();
-        
-        return (double) completedTasks / totalTasks * 100;
+        return series;
+    }
+
+    /**
+     * Completions per day of one series; the cumulative progress is a prefix sum over the days
+     */
+    private static class ProgressCounter {
+        private static final int OUT_OF_RANGE = -1;
+
+        private final long[] completedPerDay;
+        private long totalTasks;
+
+        ProgressCounter(int days) {
+            this.completedPerDay = new long[days];
+        }
+
+        // Every task counts towards the total, completions only from the day they happened in the range
+        void add(DailyActivityRepository.MemberDay activity, int day) {
+            totalTasks += activity.getTasksCreated();
+            if (day != OUT_OF_RANGE) {
+                completedPerDay[day] += activity.getTasksCompleted();
+            }
+        }
+
+        List<ProgressTimelineChartDTO.ProgressPoint> toTimeline(LocalDate startDate) {
+            List<ProgressTimelineChartDTO.ProgressPoint> timeline = new ArrayList<>(completedPerDay.length);
+            long completedTasks = 0;
+            for (int day = 0; day < completedPerDay.length; day++) {
+                completedTasks += completedPerDay[day];
+                ProgressTimelineChartDTO.ProgressPoint point = new ProgressTimelineChartDTO.ProgressPoint();
+                point.setDate(startDate.plusDays(day).toString());
+                point.setProgressPercent(totalTasks == 0 ? 0.0 : (double) completedTasks / totalTasks * 100);
+                timeline.add(point);
+            }
+            return timeline;
+        }
+    }
+
+    private record ChartCacheKey(String chart, Long projectId, String rangeType) {
+    }
+
+    private record CachedChart(long dataVersion, LocalDateTime computedAt, Object payload) {
     }
-}
\ No newline at end of file
+}
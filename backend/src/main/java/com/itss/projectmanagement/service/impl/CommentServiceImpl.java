@@ -4,17 +4,16 @@ import com.itss.projectmanagement.converter.CommentConverter;
 import com.itss.projectmanagement.dto.response.comment.CommentDTO;
 import com.itss.projectmanagement.dto.request.comment.CommentRequest;
 import com.itss.projectmanagement.entity.Comment;
-import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.Task;
 import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.exception.ResourceNotFoundException;
 import com.itss.projectmanagement.exception.UnauthorizedAccessException;
 import com.itss.projectmanagement.repository.CommentRepository;
-import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.repository.TaskRepository;
 import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.security.SecurityService;
 import com.itss.projectmanagement.service.ICommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -32,7 +31,7 @@ public class CommentServiceImpl implements ICommentService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CommentConverter commentConverter;
-    private final GroupRepository groupRepository;
+    private final SecurityService securityService;
     private final ProjectRepository projectRepository;
 
     @Override
@@ -110,14 +109,7 @@ public class CommentServiceImpl implements ICommentService {
      * @return true if the user is the leader of the specified group
      */
     private boolean isGroupLeader(Long userId, Long groupId) {
-        Optional<Group> groupOptional = Optional.ofNullable(groupRepository.findById(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group not found")));
-        if (groupOptional.isPresent()) {
-            Group group = groupOptional.get();
-            User leader = group.getLeader();
-            return leader != null && leader.getId().equals(userId);
-        }
-        return false;
+        return securityService.isProjectGroupLeader(userId, groupId);
     }
     
     /**
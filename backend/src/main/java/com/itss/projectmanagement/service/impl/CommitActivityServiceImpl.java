@@ -0,0 +1,121 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.entity.CommitActivityWeek;
+import com.itss.projectmanagement.entity.CommitRecord;
+import com.itss.projectmanagement.entity.Group;
+import com.itss.projectmanagement.repository.CommitActivityWeekRepository;
+import com.itss.projectmanagement.repository.CommitActivityWeekRepository.AuthorWeekActivity;
+import com.itss.projectmanagement.repository.CommitRecordRepository;
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.service.ICommitActivityService;
+import com.itss.projectmanagement.utils.DateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommitActivityServiceImpl implements ICommitActivityService {
+
+    private final CommitActivityWeekRepository commitActivityWeekRepository;
+    private final CommitRecordRepository commitRecordRepository;
+    private final GroupRepository groupRepository;
+
+    @Override
+    @Transactional
+    public void recordCommit(CommitRecord commitRecord) {
+        Group group = commitRecord.getGroup();
+        LocalDate weekStart = DateUtils.getIsoWeekStart(commitRecord.getTimestamp());
+
+        CommitActivityWeek delta = CommitActivityWeek.builder()
+                .project(group.getProject())
+                .group(group)
+                .authorEmail(commitRecord.getAuthorEmail())
+                .weekStart(weekStart)
+                .build();
+
+        add(delta, commitRecord);
+        commitActivityWeekRepository.addActivity(delta);
+    }
+
+    @Override
+    @Transactional
+    public void rebuildGroup(Group group) {
+        commitActivityWeekRepository.deleteByGroup(group);
+        Collection<CommitActivityWeek> weeks = aggregate(group);
+        commitActivityWeekRepository.saveAll(weeks);
+        log.debug("Rebuilt {} weekly commit activity rows for group {}", weeks.size(), group.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthorWeekActivity> getAuthorActivity(Long projectId, LocalDate fromWeek, LocalDate toWeek) {
+        return commitActivityWeekRepository.findAuthorActivity(projectId, fromWeek, toWeek);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Long> getWeeklyCommitCounts(Long projectId, LocalDate fromWeek, LocalDate toWeek) {
+        return commitActivityWeekRepository.sumByWeek(projectId, fromWeek, toWeek).stream()
+                .collect(Collectors.toMap(
+                        CommitActivityWeekRepository.WeekTotals::getWeekStart,
+                        CommitActivityWeekRepository.WeekTotals::getCommitCount));
+    }
+
+    /**
+     * Backfill the cube from raw commit records the first time the application
+     * starts with an empty activity table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (commitActivityWeekRepository.count() > 0 || commitRecordRepository.count() == 0) {
+            return;
+        }
+
+        log.info("Weekly commit activity is empty, rebuilding from commit records");
+        for (Group group : groupRepository.findAll()) {
+            try {
+                commitActivityWeekRepository.saveAll(aggregate(group));
+            } catch (Exception e) {
+                log.error("Error rebuilding commit activity for group {}: {}", group.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private Collection<CommitActivityWeek> aggregate(Group group) {
+        // Key: author email + week start
+        Map<String, CommitActivityWeek> weeks = new HashMap<>();
+        for (CommitRecord commit : commitRecordRepository.findByGroup(group)) {
+            LocalDate weekStart = DateUtils.getIsoWeekStart(commit.getTimestamp());
+            CommitActivityWeek week = weeks.computeIfAbsent(commit.getAuthorEmail() + "|" + weekStart,
+                    k -> CommitActivityWeek.builder()
+                            .project(group.getProject())
+                            .group(group)
+                            .authorEmail(commit.getAuthorEmail())
+                            .weekStart(weekStart)
+                            .build());
+            add(week, commit);
+        }
+        return weeks.values();
+    }
+
+    private void add(CommitActivityWeek week, CommitRecord commit) {
+        week.setCommitCount(week.getCommitCount() + 1);
+        if (commit.isValid()) {
+            week.setValidCommitCount(week.getValidCommitCount() + 1);
+        }
+        week.setAdditions(week.getAdditions() + (commit.getAdditions() != null ? commit.getAdditions() : 0));
+        week.setDeletions(week.getDeletions() + (commit.getDeletions() != null ? commit.getDeletions() : 0));
+    }
+}
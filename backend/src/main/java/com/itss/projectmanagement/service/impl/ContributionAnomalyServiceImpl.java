@@ -0,0 +1,436 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itss.projectmanagement.entity.CommitActivityWeek;
+import com.itss.projectmanagement.entity.CommitRecord;
+import com.itss.projectmanagement.entity.FreeRiderCase;
+import com.itss.projectmanagement.entity.Group;
+import com.itss.projectmanagement.entity.Task;
+import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.FreeRiderStatus;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.repository.CommitActivityWeekRepository;
+import com.itss.projectmanagement.repository.FreeRiderCaseRepository;
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.TaskRepository.TaskCompletion;
+import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.service.IContributionAnomalyService;
+import com.itss.projectmanagement.utils.DateUtils;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming free-rider detector.
+ * Mỗi nhóm giữ trong bộ nhớ tốc độ commit/tuần và task/tuần (EWMA) của từng thành viên.
+ * Khi một tuần kết thúc, thành viên có mức đóng góp so với trung bình nhóm tụt xuống dưới
+ * ngưỡng free-rider của dự án sẽ được ghi nhận thành một FreeRiderCase mới.
+ * Chỉ các thay đổi trạng thái được ghi xuống database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContributionAnomalyServiceImpl implements IContributionAnomalyService {
+
+    // Trọng số của tuần mới nhất trong EWMA
+    private static final double ALPHA = 0.5;
+    // Số tuần lịch sử được nạp lại khi khởi tạo cửa sổ của một nhóm
+    private static final int WARM_UP_WEEKS = 8;
+    // Số tuần có hoạt động tối thiểu trước khi bắt đầu đánh giá
+    private static final int MIN_ACTIVE_WEEKS = 2;
+
+    private final GroupRepository groupRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final CommitActivityWeekRepository commitActivityWeekRepository;
+    private final FreeRiderCaseRepository freeRiderCaseRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, GroupWindow> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCommit(CommitRecord commitRecord) {
+        if (!commitRecord.isValid() || commitRecord.getAuthorEmail() == null) {
+            return;
+        }
+        String commitId = commitRecord.getCommitId();
+        Long groupId = commitRecord.getGroup().getId();
+        String email = normalizeEmail(commitRecord.getAuthorEmail());
+        recordAfterCommit(groupId, "commit " + commitId, window -> {
+            Long userId = window.userIdsByEmail.get(email);
+            if (userId != null) {
+                window.member(userId).weekCommits++;
+            }
+        });
+    }
+
+    @Override
+    public void onTaskCompleted(Task task) {
+        if (task.getAssignee() == null) {
+            return;
+        }
+        Long userId = task.getAssignee().getId();
+        recordAfterCommit(task.getGroup().getId(), "task " + task.getId(), window -> window.member(userId).weekTasks++);
+    }
+
+    @Override
+    public void onTaskReopened(Task task, LocalDateTime completedAt) {
+        if (task.getAssignee() == null || completedAt == null) {
+            return;
+        }
+        Long userId = task.getAssignee().getId();
+        LocalDate completedWeek = DateUtils.getIsoWeekStart(completedAt);
+        recordAfterCommit(task.getGroup().getId(), "task " + task.getId(), window -> {
+            MemberRate rate = window.member(userId);
+            if (completedWeek.isBefore(window.firstWeek)) {
+                // Completed before the replayed history, so it was never counted
+                return;
+            }
+            if (!completedWeek.isBefore(window.currentWeek)) {
+                rate.weekTasks = Math.max(0, rate.weekTasks - 1);
+            } else {
+                // Take back exactly what the completion added: ALPHA, decayed once per week closed after its week
+                long closedSince = ChronoUnit.WEEKS.between(completedWeek, window.currentWeek) - 1;
+                rate.taskRate = Math.max(0, rate.taskRate - ALPHA * Math.pow(1 - ALPHA, closedSince));
+            }
+        });
+    }
+
+    @Override
+    public void advanceAllGroups() {
+        List<GroupSnapshot> groups = TransactionUtils.readOnly(transactionManager).execute(status ->
+                groupRepository.findAll().stream()
+                        .map(this::snapshot)
+                        .toList());
+        if (groups == null) {
+            return;
+        }
+
+        Set<Long> groupIds = new HashSet<>();
+        LocalDate thisWeek = currentWeek();
+        for (GroupSnapshot snapshot : groups) {
+            groupIds.add(snapshot.groupId());
+            GroupWindow window = window(snapshot.groupId());
+            if (window == null) {
+                continue;
+            }
+            List<Anomaly> anomalies;
+            synchronized (window) {
+                window.threshold = snapshot.threshold();
+                window.syncMembers(snapshot.memberIds(), snapshot.userIdsByEmail());
+                anomalies = advance(window, thisWeek);
+            }
+            anomalies.forEach(this::openCase);
+        }
+        // Bỏ cửa sổ của các nhóm đã bị xóa
+        windows.keySet().retainAll(groupIds);
+    }
+
+    /**
+     * Record the event once the surrounding transaction commits, so a rollback leaves the windows and cases untouched.
+     * Only ids are captured, the entities are detached by then.
+     */
+    private void recordAfterCommit(Long groupId, String source, Consumer<GroupWindow> event) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                record(groupId, event);
+            } catch (Exception e) {
+                log.error("Error updating contribution window for {}: {}", source, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Close any elapsed weeks of the group, apply the event to the open week, then look for drops right away
+     */
+    private void record(Long groupId, Consumer<GroupWindow> event) {
+        // A window loaded for this event is replayed from the stored activity, which already includes the event
+        boolean replayed = !windows.containsKey(groupId);
+        GroupWindow window = window(groupId);
+        if (window == null) {
+            return;
+        }
+        List<Anomaly> anomalies = new ArrayList<>();
+        synchronized (window) {
+            anomalies.addAll(advance(window, currentWeek()));
+            if (!replayed) {
+                // Sự kiện đến trễ (ví dụ commit được đồng bộ sau khi tuần đã đóng) được tính vào tuần hiện tại
+                event.accept(window);
+            }
+            anomalies.addAll(evaluate(window, true));
+        }
+        anomalies.forEach(this::openCase);
+    }
+
+    /**
+     * Get the window of a group, loading it outside the map lock since loading runs queries
+     */
+    private GroupWindow window(Long groupId) {
+        GroupWindow window = windows.get(groupId);
+        if (window != null) {
+            return window;
+        }
+        GroupWindow loaded = loadWindow(groupId);
+        if (loaded == null) {
+            return null;
+        }
+        // Another event may have loaded the window meanwhile; keep the first one so no event is lost
+        GroupWindow existing = windows.putIfAbsent(groupId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private List<Anomaly> advance(GroupWindow window, LocalDate thisWeek) {
+        if (!window.currentWeek.isBefore(thisWeek)) {
+            return List.of();
+        }
+        while (window.currentWeek.isBefore(thisWeek)) {
+            closeWeek(window);
+        }
+        return evaluate(window, false);
+    }
+
+    private void closeWeek(GroupWindow window) {
+        boolean active = false;
+        for (MemberRate rate : window.members.values()) {
+            active |= rate.weekCommits > 0 || rate.weekTasks > 0;
+            rate.commitRate = ALPHA * rate.weekCommits + (1 - ALPHA) * rate.commitRate;
+            rate.taskRate = ALPHA * rate.weekTasks + (1 - ALPHA) * rate.taskRate;
+            rate.weekCommits = 0;
+            rate.weekTasks = 0;
+        }
+        if (active) {
+            window.activeWeeks++;
+        }
+        window.currentWeek = window.currentWeek.plusWeeks(1);
+    }
+
+    /**
+     * Compare each member's rates with the group average and return members who just dropped below the threshold.
+     * With the open week included, a member's rate only counts this week's activity where it raises the rate,
+     * so nobody is penalised for a week that has only just started.
+     */
+    private List<Anomaly> evaluate(GroupWindow window, boolean includeOpenWeek) {
+        if (window.activeWeeks < MIN_ACTIVE_WEEKS || window.members.size() < 2) {
+            return List.of();
+        }
+        Map<Long, double[]> rates = new HashMap<>();
+        window.members.forEach((userId, rate) -> rates.put(userId, includeOpenWeek
+                ? new double[]{openWeekRate(rate.commitRate, rate.weekCommits), openWeekRate(rate.taskRate, rate.weekTasks)}
+                : new double[]{rate.commitRate, rate.taskRate}));
+        double groupCommitRate = rates.values().stream().mapToDouble(r -> r[0]).average().orElse(0);
+        double groupTaskRate = rates.values().stream().mapToDouble(r -> r[1]).average().orElse(0);
+        LocalDate weekStart = includeOpenWeek ? window.currentWeek : window.currentWeek.minusWeeks(1);
+
+        List<Anomaly> anomalies = new ArrayList<>();
+        for (Map.Entry<Long, MemberRate> entry : window.members.entrySet()) {
+            MemberRate rate = entry.getValue();
+            double commitRate = rates.get(entry.getKey())[0];
+            double taskRate = rates.get(entry.getKey())[1];
+            double share = 0;
+            int components = 0;
+            if (groupCommitRate > 0) {
+                share += commitRate / groupCommitRate;
+                components++;
+            }
+            if (groupTaskRate > 0) {
+                share += taskRate / groupTaskRate;
+                components++;
+            }
+            if (components == 0) {
+                continue;
+            }
+            share /= components;
+
+            boolean low = share < window.threshold;
+            if (low && !rate.flagged) {
+                anomalies.add(new Anomaly(window.projectId, window.groupId, entry.getKey(), weekStart,
+                        share, window.threshold, commitRate, groupCommitRate, taskRate, groupTaskRate));
+            }
+            rate.flagged = low;
+        }
+        return anomalies;
+    }
+
+    private static double openWeekRate(double rate, long weekCount) {
+        return Math.max(rate, ALPHA * weekCount + (1 - ALPHA) * rate);
+    }
+
+    private void openCase(Anomaly anomaly) {
+        try {
+            TransactionUtils.requiresNew(transactionManager).executeWithoutResult(status -> {
+                if (freeRiderCaseRepository.existsActiveCase(anomaly.projectId(), anomaly.userId())) {
+                    return;
+                }
+                Map<String, Object> evidence = new LinkedHashMap<>();
+                evidence.put("source", "CONTRIBUTION_ANOMALY");
+                evidence.put("weekStart", anomaly.weekStart().toString());
+                evidence.put("contributionShare", anomaly.share());
+                evidence.put("threshold", anomaly.threshold());
+                evidence.put("commitRate", anomaly.commitRate());
+                evidence.put("groupCommitRate", anomaly.groupCommitRate());
+                evidence.put("taskRate", anomaly.taskRate());
+                evidence.put("groupTaskRate", anomaly.groupTaskRate());
+
+                FreeRiderCase freeRiderCase;
+                try {
+                    freeRiderCase = FreeRiderCase.builder()
+                            .student(userRepository.getReferenceById(anomaly.userId()))
+                            .project(projectRepository.getReferenceById(anomaly.projectId()))
+                            .group(groupRepository.getReferenceById(anomaly.groupId()))
+                            .status(FreeRiderStatus.PENDING)
+                            .detectedAt(LocalDateTime.now())
+                            .evidenceJson(objectMapper.writeValueAsString(evidence))
+                            .build();
+                } catch (Exception e) {
+                    throw new RuntimeException("Error serializing free rider evidence", e);
+                }
+                freeRiderCaseRepository.save(freeRiderCase);
+                log.info("Detected contribution drop for user {} in group {} (share {})",
+                        anomaly.userId(), anomaly.groupId(), String.format("%.2f", anomaly.share()));
+            });
+        } catch (Exception e) {
+            log.error("Error creating free rider case for user {} in project {}: {}",
+                    anomaly.userId(), anomaly.projectId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build the window of a group by replaying the last weeks of activity
+     */
+    private GroupWindow loadWindow(Long groupId) {
+        // Events are recorded after commit, where only a new transaction reads the committed state
+        TransactionTemplate template = TransactionUtils.requiresNew(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            Group group = groupRepository.findById(groupId).orElse(null);
+            if (group == null) {
+                return null;
+            }
+            GroupSnapshot snapshot = snapshot(group);
+            LocalDate thisWeek = currentWeek();
+            LocalDate firstWeek = thisWeek.minusWeeks(WARM_UP_WEEKS);
+
+            GroupWindow window = new GroupWindow(snapshot.projectId(), groupId, snapshot.threshold(), firstWeek);
+            window.syncMembers(snapshot.memberIds(), snapshot.userIdsByEmail());
+
+            Map<LocalDate, Map<Long, long[]>> history = new HashMap<>();
+            for (CommitActivityWeek week : commitActivityWeekRepository.findByGroup_IdAndWeekStartGreaterThanEqual(groupId, firstWeek)) {
+                Long userId = window.userIdsByEmail.get(normalizeEmail(week.getAuthorEmail()));
+                if (userId != null) {
+                    history.computeIfAbsent(week.getWeekStart(), w -> new HashMap<>())
+                            .computeIfAbsent(userId, u -> new long[2])[0] += week.getValidCommitCount();
+                }
+            }
+            for (TaskCompletion completion : taskRepository.findCompletionsByGroupSince(
+                    groupId, TaskStatus.COMPLETED, firstWeek.atStartOfDay())) {
+                history.computeIfAbsent(DateUtils.getIsoWeekStart(completion.getCompletedAt()), w -> new HashMap<>())
+                        .computeIfAbsent(completion.getAssigneeId(), u -> new long[2])[1]++;
+            }
+
+            // Chỉ cập nhật tốc độ khi nạp lịch sử; việc đánh giá bắt đầu từ lần đóng tuần tiếp theo
+            while (true) {
+                history.getOrDefault(window.currentWeek, Map.of()).forEach((userId, counts) -> {
+                    MemberRate rate = window.member(userId);
+                    rate.weekCommits += counts[0];
+                    rate.weekTasks += counts[1];
+                });
+                if (!window.currentWeek.isBefore(thisWeek)) {
+                    break;
+                }
+                closeWeek(window);
+            }
+            return window;
+        });
+    }
+
+    private GroupSnapshot snapshot(Group group) {
+        Set<Long> memberIds = new HashSet<>();
+        Map<String, Long> userIdsByEmail = new HashMap<>();
+        for (User member : groupRepository.getGroupMembers(group.getId())) {
+            memberIds.add(member.getId());
+            if (member.getEmail() != null) {
+                userIdsByEmail.put(normalizeEmail(member.getEmail()), member.getId());
+            }
+        }
+        Double threshold = group.getProject().getFreeriderThreshold();
+        return new GroupSnapshot(group.getProject().getId(), group.getId(),
+                threshold != null ? threshold : 0.3, memberIds, userIdsByEmail);
+    }
+
+    private static LocalDate currentWeek() {
+        return DateUtils.getIsoWeekStart(LocalDateTime.now());
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record GroupSnapshot(Long projectId, Long groupId, double threshold, Set<Long> memberIds,
+                                 Map<String, Long> userIdsByEmail) {
+    }
+
+    private record Anomaly(Long projectId, Long groupId, Long userId, LocalDate weekStart, double share, double threshold,
+                           double commitRate, double groupCommitRate, double taskRate, double groupTaskRate) {
+    }
+
+    /**
+     * In-memory sliding window of a group; guarded by its own monitor
+     */
+    private static class GroupWindow {
+        private final Long projectId;
+        private final Long groupId;
+        private final LocalDate firstWeek;
+        private double threshold;
+        private LocalDate currentWeek;
+        private int activeWeeks;
+        private Map<String, Long> userIdsByEmail = new HashMap<>();
+        private final Map<Long, MemberRate> members = new HashMap<>();
+
+        GroupWindow(Long projectId, Long groupId, double threshold, LocalDate currentWeek) {
+            this.projectId = projectId;
+            this.groupId = groupId;
+            this.threshold = threshold;
+            this.firstWeek = currentWeek;
+            this.currentWeek = currentWeek;
+        }
+
+        MemberRate member(Long userId) {
+            return members.computeIfAbsent(userId, id -> new MemberRate());
+        }
+
+        void syncMembers(Set<Long> memberIds, Map<String, Long> userIdsByEmail) {
+            this.userIdsByEmail = userIdsByEmail;
+            members.keySet().retainAll(memberIds);
+            memberIds.forEach(this::member);
+        }
+    }
+
+    private static class MemberRate {
+        private double commitRate;
+        private double taskRate;
+        private long weekCommits;
+        private long weekTasks;
+        private boolean flagged;
+    }
+}
@@ -11,7 +11,10 @@ import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.PeerReviewRepository;
 import com.itss.projectmanagement.repository.TaskRepository;
 import com.itss.projectmanagement.service.IContributionScoreService;
+import com.itss.projectmanagement.service.IFreeRiderRiskService;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import com.itss.projectmanagement.utils.ScoreNormalizationUtils;
+import com.itss.projectmanagement.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +42,8 @@ public class ContributionScoreServiceImpl implements IContributionScoreService {
     private final GroupRepository groupRepository;
     private final ContributionScoreConverter contributionScoreConverter;
     private final PeerReviewRepository peerReviewRepository;
+    private final IFreeRiderRiskService freeRiderRiskService;
+    private final IProjectDataVersionService projectDataVersionService;
     
     // Code contribution weights as per requirements
     private static final double WEIGHT_ADDITIONS = 1.0;   // wₐ = 1.0
@@ -277,6 +282,10 @@ public class ContributionScoreServiceImpl implements IContributionScoreService {
         score.setIsFinal(false);
         
         contributionScoreRepository.save(score);
+        // Flagged after commit, otherwise a concurrent refresh could read the old score and clear the flag
+        Long projectId = project.getId();
+        TransactionUtils.afterCommit(() -> freeRiderRiskService.markDirty(projectId));
+        projectDataVersionService.bump(project.getId());
         
         log.debug("Saved contribution score for user {} in project {}: final score = {}", 
                 user.getUsername(), project.getName(), String.format("%.2f", finalScore));
@@ -351,6 +360,7 @@ public class ContributionScoreServiceImpl implements IContributionScoreService {
         score.setIsFinal(false); // Manual adjustments require re-finalization
         
         ContributionScore updatedScore = contributionScoreRepository.save(score);
+        projectDataVersionService.bump(score.getProject().getId());
         return contributionScoreConverter.toResponse(updatedScore);
     }
     
@@ -366,6 +376,7 @@ public class ContributionScoreServiceImpl implements IContributionScoreService {
             score.setIsFinal(true);
             contributionScoreRepository.save(score);
         }
+        projectDataVersionService.bump(projectId);
         
         return scores.stream()
                 .map(contributionScoreConverter::toResponse)
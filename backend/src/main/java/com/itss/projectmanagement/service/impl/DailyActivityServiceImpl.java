@@ -0,0 +1,217 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.entity.CommitRecord;
+import com.itss.projectmanagement.entity.DailyActivity;
+import com.itss.projectmanagement.entity.Group;
+import com.itss.projectmanagement.entity.Project;
+import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.repository.CommitRecordRepository;
+import com.itss.projectmanagement.repository.CommitRecordRepository.AuthorDailyCommits;
+import com.itss.projectmanagement.repository.DailyActivityRepository;
+import com.itss.projectmanagement.repository.DailyActivityRepository.DayTotals;
+import com.itss.projectmanagement.repository.DailyActivityRepository.MemberDay;
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.TaskRepository.DailyTaskCount;
+import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.service.IDailyActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyActivityServiceImpl implements IDailyActivityService {
+
+    private final DailyActivityRepository dailyActivityRepository;
+    private final TaskRepository taskRepository;
+    private final CommitRecordRepository commitRecordRepository;
+    private final ProjectRepository projectRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public void recordCommit(CommitRecord commitRecord) {
+        Group group = commitRecord.getGroup();
+        Long userId = userRepository.findByEmail(commitRecord.getAuthorEmail()).map(User::getId).orElse(null);
+        DailyActivity delta = delta(group.getProject().getId(), group.getId(), userId,
+                commitRecord.getTimestamp().toLocalDate());
+
+        delta.setCommitCount(1L);
+        delta.setValidCommitCount(commitRecord.isValid() ? 1L : 0L);
+        delta.setAdditions(commitRecord.getAdditions() != null ? commitRecord.getAdditions().longValue() : 0L);
+        delta.setDeletions(commitRecord.getDeletions() != null ? commitRecord.getDeletions().longValue() : 0L);
+        dailyActivityRepository.addActivity(delta);
+    }
+
+    @Override
+    @Transactional
+    public void recordTaskChange(TaskFootprint before, TaskFootprint after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            applyTask(before, -1);
+        }
+        if (after != null) {
+            applyTask(after, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void rebuildProject(Project project) {
+        rebuild(project);
+    }
+
+    @Override
+    public void reconcileAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int failed = 0;
+        for (Project project : projectRepository.findAll()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuild(project));
+            } catch (Exception e) {
+                failed++;
+                log.error("Error reconciling daily activity for project {}: {}", project.getId(), e.getMessage());
+            }
+        }
+        if (failed > 0) {
+            log.warn("Daily activity of {} projects could not be reconciled", failed);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DayTotals> getDailyTotals(Long projectId, LocalDate fromDay, LocalDate toDay) {
+        return dailyActivityRepository.sumByDay(projectId, fromDay, toDay);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberDay> getMemberDays(Long projectId, LocalDate fromDay, LocalDate toDay) {
+        return dailyActivityRepository.findMemberDays(projectId, fromDay, toDay);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberDay> getTaskDays(Long projectId) {
+        return dailyActivityRepository.findTaskDaysByProjectId(projectId);
+    }
+
+    /**
+     * Backfill the rollup from raw tasks and commit records the first time the application
+     * starts with an empty activity table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (dailyActivityRepository.count() > 0 || (taskRepository.count() == 0 && commitRecordRepository.count() == 0)) {
+            return;
+        }
+
+        log.info("Daily activity is empty, rebuilding from tasks and commit records");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Project project : projectRepository.findAll()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuild(project));
+            } catch (Exception e) {
+                log.error("Error rebuilding daily activity for project {}: {}", project.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void applyTask(TaskFootprint footprint, int delta) {
+        if (footprint.createdDay() != null) {
+            DailyActivity created = delta(footprint.projectId(), footprint.groupId(), footprint.userId(),
+                    footprint.createdDay());
+            created.setTasksCreated((long) delta);
+            dailyActivityRepository.addActivity(created);
+        }
+        if (footprint.completedDay() != null) {
+            DailyActivity completed = delta(footprint.projectId(), footprint.groupId(), footprint.userId(),
+                    footprint.completedDay());
+            completed.setTasksCompleted((long) delta);
+            completed.setLateCompletions(footprint.late() ? (long) delta : 0L);
+            dailyActivityRepository.addActivity(completed);
+        }
+    }
+
+    // Zeroed counters for one row, to be filled by the caller and added atomically in the database
+    private DailyActivity delta(Long projectId, Long groupId, Long userId, LocalDate day) {
+        return DailyActivity.builder()
+                .project(projectRepository.getReferenceById(projectId))
+                .group(groupRepository.getReferenceById(groupId))
+                .user(userId != null ? userRepository.getReferenceById(userId) : null)
+                .activityDay(day)
+                .build();
+    }
+
+    private void rebuild(Project project) {
+        Long projectId = project.getId();
+        dailyActivityRepository.deleteByProjectId(projectId);
+
+        // Key: group + user + day
+        Map<String, DailyActivity> rows = new HashMap<>();
+        for (DailyTaskCount count : taskRepository.countCreatedTasksByDay(projectId)) {
+            DailyActivity row = row(rows, project, count.getGroupId(), count.getUserId(), count.getDay());
+            row.setTasksCreated(row.getTasksCreated() + count.getTaskCount());
+        }
+        for (DailyTaskCount count : taskRepository.countCompletedTasksByDay(projectId, TaskStatus.COMPLETED)) {
+            DailyActivity row = row(rows, project, count.getGroupId(), count.getUserId(), count.getDay());
+            row.setTasksCompleted(row.getTasksCompleted() + count.getTaskCount());
+            row.setLateCompletions(row.getLateCompletions() + count.getLateCount());
+        }
+
+        List<AuthorDailyCommits> commits = commitRecordRepository.sumCommitsByAuthorAndDay(projectId);
+        Map<String, Long> userIdsByEmail = resolveUserIds(commits.stream()
+                .map(AuthorDailyCommits::getAuthorEmail)
+                .collect(Collectors.toSet()));
+        for (AuthorDailyCommits commit : commits) {
+            Long userId = userIdsByEmail.get(commit.getAuthorEmail().toLowerCase());
+            DailyActivity row = row(rows, project, commit.getGroupId(), userId, commit.getDay());
+            row.setCommitCount(row.getCommitCount() + commit.getCommitCount());
+            row.setValidCommitCount(row.getValidCommitCount() + commit.getValidCommitCount());
+            row.setAdditions(row.getAdditions() + commit.getAdditions());
+            row.setDeletions(row.getDeletions() + commit.getDeletions());
+        }
+
+        dailyActivityRepository.saveAll(rows.values());
+        log.debug("Rebuilt {} daily activity rows for project {}", rows.size(), projectId);
+    }
+
+    private DailyActivity row(Map<String, DailyActivity> rows, Project project, Long groupId, Long userId, LocalDate day) {
+        return rows.computeIfAbsent(groupId + "|" + userId + "|" + day, k -> DailyActivity.builder()
+                .project(project)
+                .group(groupRepository.getReferenceById(groupId))
+                .user(userId != null ? userRepository.getReferenceById(userId) : null)
+                .activityDay(day)
+                .build());
+    }
+
+    // Author emails are matched case-insensitively, the same way findByEmail matches them in the database
+    private Map<String, Long> resolveUserIds(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(user -> user.getEmail().toLowerCase(), User::getId, (first, second) -> first));
+    }
+}
@@ -9,16 +9,29 @@ import com.itss.projectmanagement.entity.*;
 import com.itss.projectmanagement.enums.TaskStatus;
 import com.itss.projectmanagement.enums.FreeRiderStatus;
 import com.itss.projectmanagement.enums.FreeRiderResolution;
+import com.itss.projectmanagement.enums.ReportFormat;
 import com.itss.projectmanagement.exception.NotFoundException;
 import com.itss.projectmanagement.repository.*;
+import com.itss.projectmanagement.repository.DailyActivityRepository.MemberDay;
+import com.itss.projectmanagement.service.IDailyActivityService;
 import com.itss.projectmanagement.service.IFreeRiderDetectionService;
+import com.itss.projectmanagement.service.IFreeRiderRiskService;
 import com.itss.projectmanagement.service.IGroupService;
 import com.itss.projectmanagement.service.INotificationService;
+import com.itss.projectmanagement.utils.DateUtils;
+import com.itss.projectmanagement.utils.TabularRowWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-
-import java.time.DayOfWeek;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -41,18 +54,18 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
     private final ObjectMapper objectMapper;
     private final FreeRiderCaseConverter freeRiderCaseConverter;
     private final UserConverter userConverter;
+    private final IDailyActivityService dailyActivityService;
+    private final IFreeRiderRiskService freeRiderRiskService;
+    private final ContributionScoreRepository contributionScoreRepository;
 
     private static final double DEFAULT_RISK_VALUE = 0.5;
-    private static final int WEEKS_TO_ANALYSE = 8;    @Override
+    private static final int WEEKS_TO_ANALYSE = 8;
+
+    @Override
     public List<UserDTO> detectFreeRidersWithoutNotification(Long projectId) {
         Project project = findProject(projectId);
-        double threshold = project.getFreeriderThreshold();        // Chuyển đổi trực tiếp sang DTO
-        List<User> freeRiders = groupRepository.findByProject(project).stream()
-                .flatMap(g -> findGroupFreeRiders(project, g, threshold).stream())
-                .distinct()
-                .toList();
-        
-        return userConverter.toDTO(freeRiders);
+        // Đọc trực tiếp từ bảng rủi ro đã được tính sẵn
+        return userConverter.toDTO(freeRiderRiskService.getFreeRiders(project));
     }    
       
     @Override
@@ -61,10 +74,7 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
         double threshold         = project.getFreeriderThreshold();
 
         // Thu thập danh sách entity users để thông báo
-        List<User> freeRiderEntities = groupRepository.findByProject(project).stream()
-                .flatMap(g -> findGroupFreeRiders(project, g, threshold).stream())
-                .distinct()
-                .toList();
+        List<User> freeRiderEntities = freeRiderRiskService.getFreeRiders(project);
 
         if (!freeRiderEntities.isEmpty()) {
             notifyFreeRiders(project, freeRiderEntities, threshold);
@@ -78,11 +88,8 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
         Project project = findProject(projectId);
         Map<Long, Double> result = new HashMap<>();
 
-        groupRepository.findByProject(project).forEach(group -> {
-            Map<User, Double> scores   = buildMemberScores(group, project);
-            double avg                 = average(scores.values());
-            scores.forEach((u, sc) -> result.put(u.getId(), calcRiskScore(sc, avg)));
-        });
+        freeRiderRiskService.getProjectRisks(project)
+                .forEach(risk -> result.put(risk.getUser().getId(), risk.getRiskScore()));
         return result;
     }
 
@@ -90,30 +97,57 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
     public Double calculateFreeRiderRiskScore(Long userId, Long projectId) {
         User user       = findUser(userId);
         Project project = findProject(projectId);
-        Group group     = findUserGroup(project, user)
+
+        Optional<FreeRiderRisk> risk = freeRiderRiskService.getUserRisk(project, userId);
+        if (risk.isPresent()) {
+            return risk.get().getRiskScore();
+        }
+
+        findUserGroup(project, user)
                 .orElseThrow(() -> new NotFoundException("User is not a member of any group in this project"));
 
-        Map<User, Double> scores = buildMemberScores(group, project);
-        double avg               = average(scores.values());
-        return calcRiskScore(scores.getOrDefault(user, 0d), avg);
+        // Member was not scored yet: compute the score, which marks the project for refresh
+        contributionScoreService.getScoreByUserAndProject(user, project);
+        return freeRiderRiskService.getUserRisk(project, userId)
+                .map(FreeRiderRisk::getRiskScore)
+                .orElse(DEFAULT_RISK_VALUE);
+    }
+
+    @Override
+    public LocalDateTime getRiskScoresComputedAt(Long projectId) {
+        return freeRiderRiskService.getComputedAt(projectId);
     }
 
     @Override
     public String generateFreeRiderReport(Long projectId) {
         Project project = findProject(projectId);
-        StringBuilder sb = new StringBuilder()
-                .append("BÁO CÁO PHÁT HIỆN THÀNH VIÊN \"TỰ DO\" CHO DỰ ÁN: ")
-                .append(project.getName()).append("\n\n")
-                .append("Cấu hình phát hiện:\n")
-                .append("- Ngưỡng phát hiện: ")
-                .append(String.format("%.0f%%", project.getFreeriderThreshold() * 100))
-                .append(" của điểm trung bình nhóm\n\n");
-
-        groupRepository.findByProject(project).forEach(group -> appendGroupSection(sb, group, project));
+        StringWriter writer = new StringWriter();
+        try {
+            writeFreeRiderReport(project, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
 
-        sb.append("Báo cáo được tạo tự động bởi hệ thống phát hiện thành viên \"tự do\".\n")
-                .append("Ngày tạo: ").append(new Date()).append("\n");
-        return sb.toString();
+    @Override
+    public StreamingResponseBody streamFreeRiderReport(Long projectId, ReportFormat format) {
+        if (format == ReportFormat.XLSX) {
+            throw new IllegalArgumentException("The free rider report is only available as TEXT or CSV");
+        }
+        Project project = findProject(projectId);
+        return out -> {
+            if (format == ReportFormat.CSV) {
+                // Same writer as the other CSV exports, so cells are escaped the same way
+                try (TabularRowWriter rows = TabularRowWriter.create(format, out, "Free riders")) {
+                    writeFreeRiderCsv(project, rows);
+                }
+                return;
+            }
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeFreeRiderReport(project, writer);
+            writer.flush();
+        };
     }
 
     @Override
@@ -139,20 +173,6 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
 
 
 
-    private List<User> findGroupFreeRiders(Project project, Group group, double threshold) {
-        Map<User, Double> scores = buildMemberScores(group, project);
-        double avg               = average(scores.values());
-
-        if (avg == 0) return Collections.emptyList();
-
-        return scores.entrySet().stream()
-                .filter(e -> e.getValue() < threshold * avg)
-                .peek(e -> log.info("Detected free rider: {} in group {} - Score: {} (Group avg: {})",
-                        e.getKey().getUsername(), group.getName(), e.getValue(), avg))
-                .map(Map.Entry::getKey)
-                .toList();
-    }
-
     private void notifyFreeRiders(Project project, List<User> freeRiders, double threshold) {
         StringBuilder msg = new StringBuilder()
                 .append("Hệ thống đã phát hiện ").append(freeRiders.size())
@@ -199,10 +219,6 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
         return values.isEmpty() ? 0d : values.stream().mapToDouble(Double::doubleValue).average().orElse(0d);
     }
 
-    private double calcRiskScore(double personal, double average) {
-        return average <= 0 ? DEFAULT_RISK_VALUE : Math.min(1d, Math.max(0d, 1d - (personal / average)));
-    }
-
     // =============================== HELPER: FINDERS ===============================
 
     private Project findProject(Long id) {
@@ -223,33 +239,113 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
 
     // =============================== HELPER: REPORT SECTION ===============================
 
-    private void appendGroupSection(StringBuilder sb, Group group, Project project) {
-        Map<User, Double> scores = buildMemberScores(group, project);
-        double avg                = average(scores.values());
+    private void writeFreeRiderReport(Project project, Writer writer) throws IOException {
+        writer.write("BÁO CÁO PHÁT HIỆN THÀNH VIÊN \"TỰ DO\" CHO DỰ ÁN: " + project.getName() + "\n\n");
+        writer.write("Cấu hình phát hiện:\n");
+        writer.write("- Ngưỡng phát hiện: " + String.format("%.0f%%", project.getFreeriderThreshold() * 100)
+                + " của điểm trung bình nhóm\n\n");
+        writer.flush();
+
+        // Đọc nhóm theo từng lô bằng con trỏ khóa (id) để bộ nhớ không tăng theo kích thước dự án
+        long lastGroupId = 0L;
+        List<Group> batch;
+        do {
+            batch = groupRepository.findTop20ByProjectAndIdGreaterThanOrderByIdAsc(project, lastGroupId);
+            for (Group group : batch) {
+                writeGroupSection(writer, group, project);
+                writer.flush();
+                lastGroupId = group.getId();
+            }
+        } while (!batch.isEmpty());
+
+        writer.write("Báo cáo được tạo tự động bởi hệ thống phát hiện thành viên \"tự do\".\n");
+        writer.write("Ngày tạo: " + new Date() + "\n");
+    }
+
+    private void writeFreeRiderCsv(Project project, TabularRowWriter rows) throws IOException {
+        rows.writeRow("group", "username", "score", "percent_of_average", "status");
+
+        long lastGroupId = 0L;
+        List<Group> batch;
+        do {
+            batch = groupRepository.findTop20ByProjectAndIdGreaterThanOrderByIdAsc(project, lastGroupId);
+            for (Group group : batch) {
+                writeGroupRows(rows, group, project);
+                lastGroupId = group.getId();
+            }
+        } while (!batch.isEmpty());
+    }
 
-        sb.append("NHÓM: ").append(group.getName()).append("\n")
-                .append("------------------------------\n")
-                .append(scores.isEmpty() ? "Không có thành viên trong nhóm.\n\n" : "");
+    private void writeGroupSection(Writer writer, Group group, Project project) throws IOException {
+        Map<User, Double> scores = loadGroupScores(group, project);
+        double avg               = average(scores.values());
+        double threshold         = project.getFreeriderThreshold();
 
-        if (scores.isEmpty()) return;
+        writer.write("NHÓM: " + group.getName() + "\n");
+        writer.write("------------------------------\n");
+        if (scores.isEmpty()) {
+            writer.write("Không có thành viên trong nhóm.\n\n");
+            return;
+        }
+        writer.write("Điểm đóng góp trung bình nhóm: " + String.format("%.2f", avg) + "\n");
+        writer.write(String.format("%-30s %-15s %-15s %-15s\n", "THÀNH VIÊN", "ĐIỂM", "% TRUNG BÌNH", "TRẠNG THÁI"));
+        writer.write("----------------------------------------------------------------------\n");
+
+        for (Map.Entry<User, Double> e : sortedByScore(scores)) {
+            double percent = avg > 0 ? (e.getValue() / avg) * 100 : 0;
+            writer.write(String.format("%-30s %-15.2f %-15.2f %-15s\n", e.getKey().getUsername(), e.getValue(), percent,
+                    memberStatus(percent, threshold)));
+        }
+        writer.write("\n\n");
+    }
 
-        sb.append("Điểm đóng góp trung bình nhóm: ")
-                .append(String.format("%.2f", avg)).append("\n")
-                .append(String.format("%-30s %-15s %-15s %-15s\n", "THÀNH VIÊN", "ĐIỂM", "% TRUNG BÌNH", "TRẠNG THÁI"))
-                .append("----------------------------------------------------------------------\n");
+    private void writeGroupRows(TabularRowWriter rows, Group group, Project project) throws IOException {
+        Map<User, Double> scores = loadGroupScores(group, project);
+        double avg               = average(scores.values());
+        double threshold         = project.getFreeriderThreshold();
 
-        scores.entrySet().stream()
+        for (Map.Entry<User, Double> e : sortedByScore(scores)) {
+            double percent = avg > 0 ? (e.getValue() / avg) * 100 : 0;
+            rows.writeRow(group.getName(), e.getKey().getUsername(),
+                    String.format(Locale.ROOT, "%.2f", e.getValue()),
+                    String.format(Locale.ROOT, "%.2f", percent),
+                    memberStatus(percent, threshold));
+        }
+    }
+
+    private List<Map.Entry<User, Double>> sortedByScore(Map<User, Double> scores) {
+        return scores.entrySet().stream()
                 .sorted(Map.Entry.comparingByValue())
-                .forEach(e -> appendMemberLine(sb, e.getKey(), e.getValue(), avg, project.getFreeriderThreshold()));
+                .toList();
+    }
 
-        sb.append("\n\n");
+    /**
+     * Scores of one group's members, read with a single query and falling back
+     * to on-demand calculation for members that were never scored
+     */
+    private Map<User, Double> loadGroupScores(Group group, Project project) {
+        // Truy vấn trực tiếp để không phụ thuộc vào session của request khi đang stream
+        List<User> members = groupRepository.getGroupMembers(group.getId()).stream()
+                .filter(User::isEnabled)
+                .distinct()
+                .toList();
+        Map<User, Double> scores = new HashMap<>();
+        if (members.isEmpty()) {
+            return scores;
+        }
+
+        Map<Long, Double> storedScores = new HashMap<>();
+        contributionScoreRepository.findByProjectAndUserIn(project, members).forEach(cs ->
+                storedScores.put(cs.getUser().getId(), cs.getCalculatedScore() != null ? cs.getCalculatedScore() : 0d));
+        members.forEach(u -> scores.put(u, storedScores.containsKey(u.getId())
+                ? storedScores.get(u.getId())
+                : getContributionScore(u, project)));
+        return scores;
     }
 
-    private void appendMemberLine(StringBuilder sb, User user, double score, double avg, double threshold) {
-        double percent = avg > 0 ? (score / avg) * 100 : 0;
-        String status  = percent < threshold * 100 ? "CÓ RỦI RO CAO" : 
-                        percent < 70 ? "CÓ RỦI RO" : "BÌNH THƯỜNG";
-        sb.append(String.format("%-30s %-15.2f %-15.2f %-15s\n", user.getUsername(), score, percent, status));
+    private String memberStatus(double percent, double threshold) {
+        return percent < threshold * 100 ? "CÓ RỦI RO CAO" :
+                percent < 70 ? "CÓ RỦI RO" : "BÌNH THƯỜNG";
     }
 
     // =============================== HELPER: EVIDENCE COLLECTORS ===============================
@@ -333,6 +429,8 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
         List<Map<String, Object>> commitStats = new ArrayList<>();
         List<Map<String, Object>> peerStats   = new ArrayList<>();
         List<Map<String, Object>> weekly      = buildWeekSkeleton();
+        LocalDate firstWeek                   = DateUtils.getIsoWeekStart(LocalDateTime.now()).minusWeeks(WEEKS_TO_ANALYSE - 1);
+        Map<String, Long> weeklyCommits       = loadWeeklyCommits(project, firstWeek);
 
         // Iterate through each group and its members
         for (Group group: groups){
@@ -370,7 +468,7 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
                 peerData.put("rating", p.get("averageRating"));
                 peerStats.add(peerData);
 
-                fillWeeklyCommits(weekly, group, member);
+                fillWeeklyCommits(weekly, weeklyCommits, firstWeek, group, member);
             }
         }
 
@@ -395,17 +493,29 @@ public class FreeRiderDetectionServiceImpl implements IFreeRiderDetectionService
         return weeks;
     }
     
-    private void fillWeeklyCommits(List<Map<String, Object>> weeks, Group group, User member) {
-        LocalDateTime now = LocalDateTime.now();
+    private Map<String, Long> loadWeeklyCommits(Project project, LocalDate firstWeek) {
+        LocalDate lastDay = firstWeek.plusWeeks(WEEKS_TO_ANALYSE).minusDays(1);
+        return dailyActivityService.getMemberDays(project.getId(), firstWeek, lastDay).stream()
+                .filter(day -> day.getUserId() != null)
+                .collect(Collectors.toMap(
+                        day -> weeklyCommitKey(day.getGroupId(), day.getUserId(),
+                                DateUtils.getIsoWeekStart(day.getDay().atStartOfDay())),
+                        MemberDay::getValidCommitCount,
+                        Long::sum));
+    }
+
+    private void fillWeeklyCommits(List<Map<String, Object>> weeks, Map<String, Long> weeklyCommits,
+                                   LocalDate firstWeek, Group group, User member) {
         for (int i = 0; i < WEEKS_TO_ANALYSE; i++) {
-            LocalDateTime start = now.minusWeeks(WEEKS_TO_ANALYSE - 1 - i).with(DayOfWeek.MONDAY);
-            LocalDateTime end   = start.plusWeeks(1);
-            double commits = commitRecordRepository.findByGroupAndTimestampBetween(group, start, end).stream()
-                    .filter(c -> c.getAuthorEmail().equals(member.getEmail()) && c.isValid())
-                    .count();
+            String key = weeklyCommitKey(group.getId(), member.getId(), firstWeek.plusWeeks(i));
+            double commits = weeklyCommits.getOrDefault(key, 0L);
             weeks.get(i).put(member.getFullName(), commits);
         }
     }
+
+    private String weeklyCommitKey(Long groupId, Long userId, LocalDate weekStart) {
+        return groupId + "|" + userId + "|" + weekStart;
+    }
         
     @Override
     public List<FreeRiderCaseDTO> getFreeRiderCases(Long projectId) {
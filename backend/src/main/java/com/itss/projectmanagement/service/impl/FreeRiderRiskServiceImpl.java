@@ -0,0 +1,215 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.entity.ContributionScore;
+import com.itss.projectmanagement.entity.FreeRiderRisk;
+import com.itss.projectmanagement.entity.Group;
+import com.itss.projectmanagement.entity.Project;
+import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.repository.ContributionScoreRepository;
+import com.itss.projectmanagement.repository.FreeRiderRiskRepository;
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.service.IContributionScoreService;
+import com.itss.projectmanagement.service.IFreeRiderRiskService;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FreeRiderRiskServiceImpl implements IFreeRiderRiskService {
+
+    private final FreeRiderRiskRepository freeRiderRiskRepository;
+    private final ContributionScoreRepository contributionScoreRepository;
+    private final GroupRepository groupRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Lazy: the contribution score service marks projects dirty through this service
+    @Autowired
+    @Lazy
+    private IContributionScoreService contributionScoreService;
+
+    private static final double DEFAULT_RISK_VALUE = 0.5;
+
+    // Projects whose contribution scores changed since their risks were last computed
+    private final Set<Long> dirtyProjects = ConcurrentHashMap.newKeySet();
+    // Projects whose stored risks were refreshed by this instance and are not dirty since
+    private final Set<Long> freshProjects = ConcurrentHashMap.newKeySet();
+    // One refresh at a time per project, so two refreshes never interleave their delete and insert
+    private final Map<Long, Object> refreshLocks = new ConcurrentHashMap<>();
+
+    @Override
+    public void refreshProject(Project project) {
+        synchronized (refreshLocks.computeIfAbsent(project.getId(), id -> new Object())) {
+            TransactionUtils.requiresNew(transactionManager).executeWithoutResult(status -> refresh(project));
+            freshProjects.add(project.getId());
+        }
+    }
+
+    @Override
+    public void markDirty(Long projectId) {
+        freshProjects.remove(projectId);
+        dirtyProjects.add(projectId);
+    }
+
+    @Override
+    public void refreshDirtyProjects() {
+        for (Long projectId : List.copyOf(dirtyProjects)) {
+            projectRepository.findById(projectId).ifPresentOrElse(
+                    this::refreshProject,
+                    () -> dirtyProjects.remove(projectId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<FreeRiderRisk> getProjectRisks(Project project) {
+        ensureFresh(project);
+        return freeRiderRiskRepository.findByProject_Id(project.getId());
+    }
+
+    @Override
+    @Transactional
+    public Optional<FreeRiderRisk> getUserRisk(Project project, Long userId) {
+        ensureFresh(project);
+        return freeRiderRiskRepository.findByProject_IdAndUser_Id(project.getId(), userId);
+    }
+
+    @Override
+    @Transactional
+    public List<User> getFreeRiders(Project project) {
+        ensureFresh(project);
+        return freeRiderRiskRepository.findFreeRiders(project.getId());
+    }
+
+    @Override
+    public LocalDateTime getComputedAt(Long projectId) {
+        return freeRiderRiskRepository.findLatestComputedAt(projectId);
+    }
+
+    // The check and the refresh run in their own transaction, committed before the caller reads the risks
+    private void ensureFresh(Project project) {
+        Long projectId = project.getId();
+        if (freshProjects.contains(projectId) && !dirtyProjects.contains(projectId)) {
+            return;
+        }
+        synchronized (refreshLocks.computeIfAbsent(projectId, id -> new Object())) {
+            try {
+                TransactionUtils.requiresNew(transactionManager).executeWithoutResult(status -> {
+                    if (dirtyProjects.contains(projectId) || !freeRiderRiskRepository.existsByProject_Id(projectId)) {
+                        refresh(project);
+                    }
+                });
+                freshProjects.add(projectId);
+            } catch (DataIntegrityViolationException e) {
+                // Another instance stored the risks concurrently; theirs are just as current
+                log.debug("Free-rider risks of project {} were refreshed concurrently", projectId);
+            }
+        }
+    }
+
+    private void refresh(Project project) {
+        LocalDateTime now = LocalDateTime.now();
+        double threshold = project.getFreeriderThreshold();
+
+        // Cleared before the scores are read, so a score committed after the read flags the project again
+        dirtyProjects.remove(project.getId());
+
+        Map<Long, ContributionScore> scores = contributionScoreRepository.findByProject(project).stream()
+                .collect(Collectors.toMap(s -> s.getUser().getId(), Function.identity(), (a, b) -> a));
+
+        Map<Group, List<User>> membersByGroup = new LinkedHashMap<>();
+        for (Group group : groupRepository.findByProject(project)) {
+            membersByGroup.put(group, groupRepository.getGroupMembers(group.getId()).stream()
+                    .filter(User::isEnabled)
+                    .distinct()
+                    .toList());
+        }
+
+        // Members that were never scored get their score computed, as the detection did before risks were stored
+        for (List<User> members : membersByGroup.values()) {
+            for (User member : members) {
+                if (!scores.containsKey(member.getId())) {
+                    contributionScoreService.calculateScore(member, project);
+                    contributionScoreRepository.findByUserAndProject(member, project)
+                            .ifPresent(score -> scores.put(member.getId(), score));
+                }
+            }
+        }
+
+        List<FreeRiderRisk> risks = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (Map.Entry<Group, List<User>> entry : membersByGroup.entrySet()) {
+            Group group = entry.getKey();
+            List<User> members = entry.getValue().stream()
+                    .filter(u -> scores.containsKey(u.getId()))
+                    .toList();
+
+            double avg = members.stream()
+                    .mapToDouble(u -> calculatedScore(scores.get(u.getId())))
+                    .average().orElse(0d);
+
+            for (User member : members) {
+                if (!seen.add(member.getId())) {
+                    continue;
+                }
+                ContributionScore score = scores.get(member.getId());
+                double personal = calculatedScore(score);
+                boolean freeRider = avg > 0 && personal < threshold * avg;
+
+                if (freeRider) {
+                    log.info("Detected free rider: {} in group {} - Score: {} (Group avg: {})",
+                            member.getUsername(), group.getName(), personal, avg);
+                }
+
+                risks.add(FreeRiderRisk.builder()
+                        .project(project)
+                        .user(member)
+                        .riskScore(calcRiskScore(personal, avg))
+                        .freeRider(freeRider)
+                        .calculatedScore(personal)
+                        .groupAverageScore(avg)
+                        .threshold(threshold)
+                        .taskCompletionScore(score.getTaskCompletionScore())
+                        .peerReviewScore(score.getPeerReviewScore())
+                        .codeContributionScore(score.getCodeContributionScore())
+                        .lateTaskCount(score.getLateTaskCount())
+                        .computedAt(now)
+                        .build());
+            }
+        }
+
+        freeRiderRiskRepository.deleteByProjectId(project.getId());
+        freeRiderRiskRepository.saveAll(risks);
+        log.info("Refreshed {} free-rider risk rows for project {}", risks.size(), project.getName());
+    }
+
+    private double calculatedScore(ContributionScore score) {
+        return score.getCalculatedScore() != null ? score.getCalculatedScore() : 0d;
+    }
+
+    private double calcRiskScore(double personal, double average) {
+        return average <= 0 ? DEFAULT_RISK_VALUE : Math.min(1d, Math.max(0d, 1d - (personal / average)));
+    }
+}
@@ -9,8 +9,12 @@ import com.itss.projectmanagement.repository.CommitRecordRepository;
 import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.TaskRepository;
 import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.service.ICommitActivityService;
+import com.itss.projectmanagement.service.IContributionAnomalyService;
+import com.itss.projectmanagement.service.IDailyActivityService;
 import com.itss.projectmanagement.service.IGitHubService;
 import com.itss.projectmanagement.service.INotificationService;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import lombok.extern.slf4j.Slf4j;
 import org.kohsuke.github.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +46,14 @@ public class GitHubServiceImpl implements IGitHubService {
     private GroupRepository groupRepository;
     @Autowired
     private INotificationService notificationService;
+    @Autowired
+    private ICommitActivityService commitActivityService;
+    @Autowired
+    private IDailyActivityService dailyActivityService;
+    @Autowired
+    private IContributionAnomalyService contributionAnomalyService;
+    @Autowired
+    private IProjectDataVersionService projectDataVersionService;
     
     @org.springframework.beans.factory.annotation.Value("${github.token}")
     private String gitHubToken;    // Pattern to match TASK-ID in commit messages: [TASK-123]
@@ -198,6 +210,10 @@ public class GitHubServiceImpl implements IGitHubService {
                 .build();
 
         commitRecordRepository.save(commitRecord);
+        commitActivityService.recordCommit(commitRecord);
+        dailyActivityService.recordCommit(commitRecord);
+        contributionAnomalyService.onCommit(commitRecord);
+        projectDataVersionService.bump(group.getProject().getId());
 
         // Notify leader about invalid commits
         if (!isValid && taskId != null) {
@@ -13,10 +13,13 @@ import com.itss.projectmanagement.exception.ResourceNotFoundException;
 import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.security.GroupMembershipChangedEvent;
 import com.itss.projectmanagement.service.IGroupService;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,6 +39,8 @@ public class GroupServiceImpl implements IGroupService {
     private final UserRepository userRepository;
     private final GroupConverter groupConverter;
     private final EntityManager entityManager;
+    private final IProjectDataVersionService projectDataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new group for a project
@@ -78,6 +83,8 @@ public class GroupServiceImpl implements IGroupService {
                 .build();
 
         group = groupRepository.save(group);
+        projectDataVersionService.bump(project.getId());
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(List.of(currentUser.getId())));
         return groupConverter.toDTO(group);
     }
 
@@ -113,6 +120,8 @@ public class GroupServiceImpl implements IGroupService {
 
         // Use the safe method to add user to group
         group = safelyAddUserToGroup(groupId, currentUser.getId());
+        projectDataVersionService.bump(projectId);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(List.of(currentUser.getId())));
         return groupConverter.toDTO(group);
     }
 
@@ -155,6 +164,8 @@ public class GroupServiceImpl implements IGroupService {
 
         // Use the safe method to add user to group
         Group group = safelyAddUserToGroup(selectedGroupId, currentUser.getId());
+        projectDataVersionService.bump(projectId);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(List.of(currentUser.getId())));
         return groupConverter.toDTO(group);
     }
 
@@ -338,6 +349,8 @@ public class GroupServiceImpl implements IGroupService {
         // Remove user from group
         group.getMembers().remove(currentUser);
         groupRepository.save(group);
+        projectDataVersionService.bump(group.getProject().getId());
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(List.of(currentUser.getId())));
     }
 
     /**
@@ -369,6 +382,8 @@ public class GroupServiceImpl implements IGroupService {
         // Transfer leadership
         group.setLeader(newLeader);
         group = groupRepository.save(group);
+        projectDataVersionService.bump(group.getProject().getId());
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(List.of(currentUser.getId(), newLeader.getId())));
         return groupConverter.toDTO(group);
     }   
     
@@ -428,8 +443,14 @@ public class GroupServiceImpl implements IGroupService {
             }
         }
 
+        Long previousLeaderId = group.getLeader() != null ? group.getLeader().getId() : null;
         group = groupConverter.applyUpdateToEntity(group, updateRequest, newLeader);
         group = groupRepository.save(group);
+        projectDataVersionService.bump(group.getProject().getId());
+        if (newLeader != null) {
+            eventPublisher.publishEvent(new GroupMembershipChangedEvent(
+                    Arrays.asList(previousLeaderId, newLeader.getId())));
+        }
         return groupConverter.toDTO(group);
     }
 
@@ -458,7 +479,16 @@ public class GroupServiceImpl implements IGroupService {
             throw new IllegalStateException("Only group leader, project instructor or admin can delete the group");
         }
 
+        Set<Long> memberIds = group.getMembers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        if (group.getLeader() != null) {
+            memberIds.add(group.getLeader().getId());
+        }
+
         groupRepository.delete(group);
+        projectDataVersionService.bump(group.getProject().getId());
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(memberIds));
     }
 
     /**
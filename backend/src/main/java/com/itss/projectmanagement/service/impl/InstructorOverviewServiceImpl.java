@@ -0,0 +1,140 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.dto.response.project.InstructorOverviewDTO;
+import com.itss.projectmanagement.dto.response.project.InstructorOverviewDTO.ProjectOverview;
+import com.itss.projectmanagement.dto.response.project.InstructorOverviewDTO.SyncHealth;
+import com.itss.projectmanagement.entity.Project;
+import com.itss.projectmanagement.enums.FreeRiderStatus;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.repository.CommitRecordRepository;
+import com.itss.projectmanagement.repository.CommitRecordRepository.ProjectCommitSync;
+import com.itss.projectmanagement.repository.ContributionScoreRepository;
+import com.itss.projectmanagement.repository.ContributionScoreRepository.ProjectScoreSummary;
+import com.itss.projectmanagement.repository.FreeRiderCaseRepository;
+import com.itss.projectmanagement.repository.FreeRiderCaseRepository.ProjectFreeRiderCount;
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.GroupRepository.ProjectGroupSummary;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.TaskRepository.ProjectTaskSummary;
+import com.itss.projectmanagement.service.IInstructorOverviewService;
+import com.itss.projectmanagement.utils.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InstructorOverviewServiceImpl implements IInstructorOverviewService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ContributionScoreRepository contributionScoreRepository;
+    private final FreeRiderCaseRepository freeRiderCaseRepository;
+    private final GroupRepository groupRepository;
+    private final CommitRecordRepository commitRecordRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public InstructorOverviewDTO getInstructorOverview() {
+        Long instructorId = SecurityUtils.getCurrentUser().getId();
+        List<Project> projects = projectRepository.findByInstructor_IdOrderByCreatedAtDesc(instructorId);
+
+        // One grouped query per metric across all projects of the instructor, independent of the project count
+        Map<Long, ProjectTaskSummary> tasks = byProject(
+                taskRepository.summarizeTasksByInstructor(instructorId, TaskStatus.COMPLETED, LocalDate.now()),
+                ProjectTaskSummary::getProjectId);
+        Map<Long, ProjectScoreSummary> scores = byProject(
+                contributionScoreRepository.averageScoresByInstructor(instructorId),
+                ProjectScoreSummary::getProjectId);
+        Map<Long, ProjectFreeRiderCount> freeRiders = byProject(
+                freeRiderCaseRepository.countActiveFreeRidersByInstructor(instructorId, FreeRiderStatus.RESOLVED),
+                ProjectFreeRiderCount::getProjectId);
+        Map<Long, ProjectGroupSummary> groups = byProject(
+                groupRepository.summarizeGroupsByInstructor(instructorId),
+                ProjectGroupSummary::getProjectId);
+        Map<Long, ProjectCommitSync> commits = byProject(
+                commitRecordRepository.summarizeCommitSyncByInstructor(instructorId),
+                ProjectCommitSync::getProjectId);
+
+        List<ProjectOverview> overviews = new ArrayList<>(projects.size());
+        long totalTasks = 0;
+        long overdueTasks = 0;
+        long freeRiderCount = 0;
+        for (Project project : projects) {
+            ProjectOverview overview = toOverview(project, tasks.get(project.getId()), scores.get(project.getId()),
+                    freeRiders.get(project.getId()), groups.get(project.getId()), commits.get(project.getId()));
+            totalTasks += overview.getTotalTasks();
+            overdueTasks += overview.getOverdueTasks();
+            freeRiderCount += overview.getFreeRiderCount();
+            overviews.add(overview);
+        }
+
+        return InstructorOverviewDTO.builder()
+                .totalProjects(projects.size())
+                .totalTasks(totalTasks)
+                .overdueTasks(overdueTasks)
+                .freeRiderCount(freeRiderCount)
+                .projects(overviews)
+                .build();
+    }
+
+    private ProjectOverview toOverview(Project project, ProjectTaskSummary tasks, ProjectScoreSummary scores,
+                                       ProjectFreeRiderCount freeRiders, ProjectGroupSummary groups,
+                                       ProjectCommitSync commits) {
+        long totalTasks = tasks != null ? tasks.getTotalTasks() : 0;
+        long completedTasks = tasks != null ? tasks.getCompletedTasks() : 0;
+
+        return ProjectOverview.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .finalized(Boolean.TRUE.equals(project.getIsFinalized()))
+                .groupCount(groups != null ? groups.getGroupCount() : 0)
+                .memberCount(groups != null ? groups.getMemberCount() : 0)
+                .totalTasks(totalTasks)
+                .completedTasks(completedTasks)
+                .completionRate(totalTasks > 0 ? (int) Math.round((double) completedTasks / totalTasks * 100) : 0)
+                .overdueTasks(tasks != null ? tasks.getOverdueTasks() : 0)
+                .averageScore(scores != null ? scores.getAverageScore() : null)
+                .scoredMembers(scores != null ? scores.getScoredMembers() : 0)
+                .freeRiderCount(freeRiders != null ? freeRiders.getFreeRiderCount() : 0)
+                .syncHealth(toSyncHealth(groups, commits))
+                .build();
+    }
+
+    private SyncHealth toSyncHealth(ProjectGroupSummary groups, ProjectCommitSync commits) {
+        long linkedGroups = groups != null ? groups.getLinkedGroups() : 0;
+        long syncedGroups = commits != null ? Math.min(commits.getSyncedGroups(), linkedGroups) : 0;
+
+        String status;
+        if (linkedGroups == 0) {
+            status = "NOT_CONFIGURED";
+        } else if (syncedGroups == 0) {
+            status = "NEVER_SYNCED";
+        } else if (syncedGroups < linkedGroups) {
+            status = "PARTIAL";
+        } else {
+            status = "HEALTHY";
+        }
+
+        return SyncHealth.builder()
+                .linkedGroups(linkedGroups)
+                .syncedGroups(syncedGroups)
+                .lastCommitAt(commits != null ? commits.getLastCommitAt() : null)
+                .status(status)
+                .build();
+    }
+
+    private static <T> Map<Long, T> byProject(List<T> rows, Function<T, Long> projectId) {
+        return rows.stream().collect(Collectors.toMap(projectId, row -> row));
+    }
+}
@@ -0,0 +1,63 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.service.ILastLoginService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LastLoginServiceImpl implements ILastLoginService {
+
+    private final UserRepository userRepository;
+
+    // Latest login time per user ID since the last flush
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (previous, latest) -> latest.isAfter(previous) ? latest : previous);
+    }
+
+    @Override
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.put(userId, loginAt);
+            }
+        }
+
+        try {
+            userRepository.batchUpdateLastLogin(batch);
+            log.debug("Flushed last login time of {} users", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            // Put the batch back so the next flush retries it, without overwriting newer logins
+            batch.forEach(this::record);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing last login times on shutdown: {}", e.getMessage());
+        }
+    }
+}
@@ -11,11 +11,15 @@ import com.itss.projectmanagement.service.INotificationCrudService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,12 +29,26 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationUnreadCounter unreadCounter;
 
     @Override
-    public NotificationResponseDTO getUserNotifications(User user) {
+    public NotificationResponseDTO getUserNotifications(User user, String cursor, int size) {
         try {
-            List<Notification> notifications = notificationRepository.findByUserOrderByCreatedAtDesc(user);
-            long unreadCount = notificationRepository.countByUserAndIsReadFalse(user);
+            // One extra row tells whether there is a next page
+            PageRequest limit = PageRequest.of(0, size + 1);
+            List<Notification> notifications;
+            if (cursor == null || cursor.isBlank()) {
+                notifications = notificationRepository.findFeed(user.getId(), limit);
+            } else {
+                FeedCursor position = FeedCursor.parse(cursor);
+                notifications = notificationRepository.findFeedBefore(user.getId(), position.createdAt(), position.id(), limit);
+            }
+
+            boolean hasMore = notifications.size() > size;
+            if (hasMore) {
+                notifications = notifications.subList(0, size);
+            }
+            String nextCursor = hasMore ? FeedCursor.of(notifications.get(notifications.size() - 1)).format() : null;
             
             List<NotificationDTO> notificationDTOs = notifications.stream()
                     .map(this::convertToDTO)
@@ -40,8 +58,12 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
                     .success(true)
                     .message("Notifications retrieved successfully")
                     .data(notificationDTOs)
-                    .unreadCount(unreadCount)
+                    .unreadCount(unreadCounter.get(user.getId()))
+                    .nextCursor(nextCursor)
+                    .hasMore(hasMore)
                     .build();
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting notifications for user {}: {}", user.getEmail(), e.getMessage(), e);
             return NotificationResponseDTO.builder()
@@ -67,8 +89,11 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
                     return false;
                 }
                 
-                notification.setRead(true);
-                notificationRepository.save(notification);
+                if (!notification.isRead()) {
+                    notification.setRead(true);
+                    notificationRepository.save(notification);
+                    unreadCounter.add(user.getId(), -1);
+                }
                 return true;
             }
             
@@ -84,6 +109,7 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
     public boolean markAllAsRead(User user) {
         try {
             notificationRepository.markAllAsRead(user);
+            unreadCounter.clear(user.getId());
             return true;
         } catch (Exception e) {
             log.error("Error marking all notifications as read for user {}: {}", user.getEmail(), e.getMessage(), e);
@@ -108,6 +134,9 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
                 }
                 
                 notificationRepository.delete(notification);
+                if (!notification.isRead()) {
+                    unreadCounter.add(user.getId(), -1);
+                }
                 return true;
             }
             
@@ -131,27 +160,10 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
             
             User user = userOpt.get();
             
-            // Parse the notification type string to enum, default to SYSTEM_NOTIFICATION if invalid
-            NotificationType notificationType;
-            try {
-                notificationType = NotificationType.valueOf(notificationDTO.getType());
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid notification type '{}', defaulting to SYSTEM_NOTIFICATION", notificationDTO.getType());
-                notificationType = NotificationType.SYSTEM_NOTIFICATION;
-            }
-            
-            Notification notification = Notification.builder()
-                    .user(user)
-                    .title(notificationDTO.getTitle())
-                    .message(notificationDTO.getMessage())
-                    .isRead(false)
-                    .createdAt(LocalDateTime.now())
-                    .type(notificationType)
-                    .link(notificationDTO.getLink())
-                    .data(notificationDTO.getData())
-                    .build();
+            Notification notification = toEntity(notificationDTO, user);
             
             Notification savedNotification = notificationRepository.save(notification);
+            unreadCounter.add(user.getId(), 1);
             NotificationDTO savedDTO = convertToDTO(savedNotification);
             
             // Note: We no longer need to send via WebSocket as we're using Novu for all notifications
@@ -163,7 +175,61 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
         }
     }
     
-    // Helper method to convert entity to DTO
+    @Override
+    @Transactional
+    public int createNotifications(List<NotificationDTO> notificationDTOs) {
+        if (notificationDTOs.isEmpty()) {
+            return 0;
+        }
+        // Resolve all recipients with one query instead of one lookup per notification
+        Set<Long> userIds = notificationDTOs.stream()
+                .map(NotificationDTO::getUserId)
+                .collect(Collectors.toSet());
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        List<Notification> notifications = new ArrayList<>(notificationDTOs.size());
+        for (NotificationDTO notificationDTO : notificationDTOs) {
+            if (!existingUserIds.contains(notificationDTO.getUserId())) {
+                log.error("User with id {} not found", notificationDTO.getUserId());
+                continue;
+            }
+            notifications.add(toEntity(notificationDTO, userRepository.getReferenceById(notificationDTO.getUserId())));
+        }
+
+        int inserted = notificationRepository.batchInsert(notifications);
+        notifications.stream()
+                .collect(Collectors.groupingBy(notification -> notification.getUser().getId(), Collectors.counting()))
+                .forEach(unreadCounter::add);
+        return inserted;
+    }
+
+    @Override
+    public void reconcileUnreadCounts() {
+        unreadCounter.reconcile();
+    }
+
+    private Notification toEntity(NotificationDTO notificationDTO, User user) {
+        // Parse the notification type string to enum, default to SYSTEM_NOTIFICATION if invalid
+        NotificationType notificationType;
+        try {
+            notificationType = NotificationType.valueOf(notificationDTO.getType());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("Invalid notification type '{}', defaulting to SYSTEM_NOTIFICATION", notificationDTO.getType());
+            notificationType = NotificationType.SYSTEM_NOTIFICATION;
+        }
+
+        return Notification.builder()
+                .user(user)
+                .title(notificationDTO.getTitle())
+                .message(notificationDTO.getMessage())
+                .isRead(false)
+                .createdAt(notificationDTO.getCreatedAt() != null ? notificationDTO.getCreatedAt() : LocalDateTime.now())
+                .type(notificationType)
+                .link(notificationDTO.getLink())
+                .data(notificationDTO.getData())
+                .build();
+    }
+
     private NotificationDTO convertToDTO(Notification notification) {
         return NotificationDTO.builder()
                 .id(notification.getId())
@@ -177,4 +243,28 @@ public class NotificationCrudServiceImpl implements INotificationCrudService {
                 .data(notification.getData())
                 .build();
     }
+
+    /**
+     * Position in the feed: the creation time and id of the last notification of a page
+     */
+    private record FeedCursor(LocalDateTime createdAt, Long id) {
+
+        static FeedCursor of(Notification notification) {
+            return new FeedCursor(notification.getCreatedAt(), notification.getId());
+        }
+
+        static FeedCursor parse(String cursor) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                return new FeedCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid notification cursor: " + cursor);
+            }
+        }
+
+        String format() {
+            return createdAt + "_" + id;
+        }
+    }
 }
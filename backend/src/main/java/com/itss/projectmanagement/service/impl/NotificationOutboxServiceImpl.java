@@ -0,0 +1,169 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.dto.response.notification.NotificationDTO;
+import com.itss.projectmanagement.service.INotificationCrudService;
+import com.itss.projectmanagement.service.INotificationOutboxService;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxServiceImpl implements INotificationOutboxService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 5;
+    // Notifications queued beyond this are dropped so a long database outage cannot exhaust memory
+    private static final int MAX_QUEUED = 50_000;
+
+    private final INotificationCrudService notificationCrudService;
+
+    private final Queue<PendingNotification> outbox = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() walks the whole queue, so the size is tracked separately
+    private final AtomicInteger queued = new AtomicInteger();
+
+    @Override
+    public void enqueue(List<NotificationDTO> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        // Keep the time of the event rather than the time of delivery
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingNotification> pending = new ArrayList<>(notifications.size());
+        for (NotificationDTO notification : notifications) {
+            if (notification.getCreatedAt() == null) {
+                notification.setCreatedAt(now);
+            }
+            pending.add(new PendingNotification(notification, 0));
+        }
+
+        TransactionUtils.afterCommit(() -> offer(pending));
+    }
+
+    @Override
+    public int dispatch() {
+        int saved = 0;
+        List<PendingNotification> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            try {
+                saved += notificationCrudService.createNotifications(batch.stream()
+                        .map(PendingNotification::notification)
+                        .toList());
+            } catch (Exception e) {
+                if (!isDataError(e)) {
+                    // The database is unavailable: keep the batch for the next run without spending an attempt
+                    log.error("Error saving {} notifications, keeping them queued: {}", batch.size(), e.getMessage());
+                    offer(batch);
+                    break;
+                }
+                log.error("Error saving {} notifications, saving them one by one: {}", batch.size(), e.getMessage());
+                BatchOutcome outcome = saveIndividually(batch);
+                saved += outcome.saved();
+                if (outcome.interrupted()) {
+                    break;
+                }
+            }
+        }
+        if (saved > 0) {
+            log.info("Dispatched {} notifications from the outbox", saved);
+        }
+        return saved;
+    }
+
+    @PreDestroy
+    public void dispatchOnShutdown() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("Error dispatching notifications on shutdown: {}", e.getMessage());
+        }
+        if (queued.get() > 0) {
+            log.warn("{} notifications were not delivered before shutdown", queued.get());
+        }
+    }
+
+    private void offer(List<PendingNotification> pending) {
+        int accepted = 0;
+        for (PendingNotification notification : pending) {
+            if (queued.incrementAndGet() > MAX_QUEUED) {
+                queued.decrementAndGet();
+                continue;
+            }
+            outbox.add(notification);
+            accepted++;
+        }
+        if (accepted < pending.size()) {
+            log.error("Notification outbox is full, dropped {} notifications", pending.size() - accepted);
+        }
+    }
+
+    private List<PendingNotification> nextBatch() {
+        List<PendingNotification> batch = new ArrayList<>();
+        PendingNotification pending;
+        while (batch.size() < BATCH_SIZE && (pending = outbox.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    // Isolates the rows that made a batch fail, e.g. an oversized title or a recipient deleted meanwhile,
+    // so only those are retried and eventually dropped
+    private BatchOutcome saveIndividually(List<PendingNotification> batch) {
+        int saved = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingNotification pending = batch.get(i);
+            try {
+                saved += notificationCrudService.createNotifications(List.of(pending.notification()));
+            } catch (Exception e) {
+                if (!isDataError(e)) {
+                    log.error("Error saving notifications, keeping {} queued: {}", batch.size() - i, e.getMessage());
+                    offer(batch.subList(i, batch.size()));
+                    return new BatchOutcome(saved, true);
+                }
+                log.warn("Error saving notification '{}' for user {}: {}",
+                        pending.notification().getTitle(), pending.notification().getUserId(), e.getMessage());
+                retry(pending);
+            }
+        }
+        return new BatchOutcome(saved, false);
+    }
+
+    // Constraint and data errors belong to particular rows; any other database or transaction error
+    // means the database itself is failing and every row would fail the same way
+    private boolean isDataError(Exception e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return true;
+        }
+        return !(e instanceof DataAccessException) && !(e instanceof TransactionException);
+    }
+
+    private void retry(PendingNotification pending) {
+        int attempts = pending.attempts() + 1;
+        if (attempts < MAX_ATTEMPTS) {
+            offer(List.of(new PendingNotification(pending.notification(), attempts)));
+        } else {
+            log.error("Dropping notification '{}' for user {} after {} attempts",
+                    pending.notification().getTitle(), pending.notification().getUserId(), attempts);
+        }
+    }
+
+    private record PendingNotification(NotificationDTO notification, int attempts) {
+    }
+
+    private record BatchOutcome(int saved, boolean interrupted) {
+    }
+}
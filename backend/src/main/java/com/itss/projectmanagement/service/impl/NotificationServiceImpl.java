@@ -6,7 +6,7 @@ import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.enums.NotificationType;
 import com.itss.projectmanagement.repository.GroupRepository;
-import com.itss.projectmanagement.service.INotificationCrudService;
+import com.itss.projectmanagement.service.INotificationOutboxService;
 import com.itss.projectmanagement.service.INotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +21,7 @@ import java.util.Map;
 @Slf4j
 public class NotificationServiceImpl implements INotificationService {
     private final GroupRepository groupRepository;
-    private final INotificationCrudService notificationCrudService;
+    private final INotificationOutboxService notificationOutboxService;
 
     /**
      * Notifies all group leaders for a specific project
@@ -47,11 +47,13 @@ public class NotificationServiceImpl implements INotificationService {
         }
 
         String link = "/projects/" + project.getId() + "/details";
+        List<NotificationDTO> notifications = new ArrayList<>();
         for (User leader : leaders) {
-            notifyUser(leader, title, message, NotificationType.PROJECT_INVITATION.name(), link);
+            notifications.add(notification(leader, title, message, NotificationType.PROJECT_INVITATION.name(), link));
         }
+        notificationOutboxService.enqueue(notifications);
 
-        log.info("Sent '{}' notification to {} group leaders for project {}",
+        log.info("Queued '{}' notification to {} group leaders for project {}",
                 title, leaders.size(), project.getName());
     }    
     
@@ -73,18 +75,13 @@ public class NotificationServiceImpl implements INotificationService {
             // Save data as JSON string
             String jsonData = String.format("{\"projectId\":%d,\"freeRiderId\":%d}", project.getId(), freeRider.getId());
             
-            // Create notification record via the database service
-            NotificationDTO notificationDTO = new NotificationDTO();
-            notificationDTO.setUserId(instructor.getId());
-            notificationDTO.setTitle(title);
-            notificationDTO.setMessage(message);
-            notificationDTO.setType(NotificationType.FREE_RIDER_ALERT.name());
-            notificationDTO.setLink(link);
+            // Queue the notification record; it is saved once the detection commits
+            NotificationDTO notificationDTO = notification(instructor, title, message, NotificationType.FREE_RIDER_ALERT.name(), link);
             notificationDTO.setData(jsonData);
             
-            notificationCrudService.createNotification(notificationDTO);
+            notificationOutboxService.enqueue(List.of(notificationDTO));
             
-            log.info("Free-rider alert sent to instructor {}: {} is potential free-rider in project {}", 
+            log.info("Free-rider alert queued for instructor {}: {} is potential free-rider in project {}", 
                     instructor.getEmail(), freeRider.getEmail(), project.getName());
         } catch (Exception e) {
             log.error("Failed to send free-rider alert to {}: {}", instructor.getEmail(), e.getMessage(), e);
@@ -112,28 +109,34 @@ public class NotificationServiceImpl implements INotificationService {
      * @param link Optional link to include with the notification
      */    
     public void notifyUser(User user, String title, String message, String type, String link) {
-        log.info("Preparing to save notification to user: {} ({}), title: {}", user.getFullName(), user.getEmail(), title);
-        
-        try {
-            // Create notification DTO
-            NotificationDTO notificationDTO = new NotificationDTO();
-            notificationDTO.setUserId(user.getId());
-            notificationDTO.setTitle(title);
-            notificationDTO.setMessage(message);
-            notificationDTO.setType(type);
-            notificationDTO.setLink(link);
-            
-            NotificationDTO savedNotification = notificationCrudService.createNotification(notificationDTO);
-            
-            if (savedNotification != null) {
-                log.info("Notification saved to database with ID: {}", savedNotification.getId());
-                log.info("Notification process completed successfully for user {}: {} - {}", 
-                        user.getEmail(), title, message);
-            } else {
-                log.error("Failed to save notification to database for user: {}", user.getEmail());
-            }
-        } catch (Exception e) {
-            log.error("Failed to save notification to database for {}: {}", user.getEmail(), e.getMessage(), e);
+        notificationOutboxService.enqueue(List.of(notification(user, title, message, type, link)));
+        log.debug("Queued notification to user {}: {}", user.getId(), title);
+    }
+    
+    /**
+     * Notifies many users at once, saving every notification in one batch
+     *
+     * @param notifications Notifications to send; a missing type defaults to GENERAL
+     */
+    public void notifyUsers(List<NotificationDTO> notifications) {
+        if (notifications.isEmpty()) {
+            return;
         }
+        notifications.stream()
+                .filter(notification -> notification.getType() == null)
+                .forEach(notification -> notification.setType(NotificationType.GENERAL.name()));
+        
+        notificationOutboxService.enqueue(notifications);
+        log.info("Queued {} batched notifications", notifications.size());
+    }
+
+    private NotificationDTO notification(User user, String title, String message, String type, String link) {
+        NotificationDTO notificationDTO = new NotificationDTO();
+        notificationDTO.setUserId(user.getId());
+        notificationDTO.setTitle(title);
+        notificationDTO.setMessage(message);
+        notificationDTO.setType(type);
+        notificationDTO.setLink(link);
+        return notificationDTO;
     }
-}
\ No newline at end of file
+}
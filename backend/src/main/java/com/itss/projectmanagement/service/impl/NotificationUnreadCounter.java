@@ -0,0 +1,103 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.repository.NotificationRepository;
+import com.itss.projectmanagement.repository.NotificationRepository.UnreadCount;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded in-memory unread notification count per recently active user.
+ * Counts are loaded on first use, kept up to date by the notification writes after they commit,
+ * and recounted periodically to correct any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final int RECONCILE_CHUNK_SIZE = 1_000;
+
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Long, Long> counts = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Get the unread count of a user, counting in the database only when it is not cached
+     */
+    public long get(Long userId) {
+        synchronized (counts) {
+            Long count = counts.get(userId);
+            if (count != null) {
+                return count;
+            }
+        }
+        long count = notificationRepository.countByUser_IdAndIsReadFalse(userId);
+        synchronized (counts) {
+            counts.putIfAbsent(userId, count);
+        }
+        return count;
+    }
+
+    /**
+     * Add to the unread count of a user once the current transaction commits.
+     * Users without a cached count are skipped; their count is loaded fresh when asked for.
+     */
+    public void add(Long userId, long delta) {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (counts) {
+                counts.computeIfPresent(userId, (id, count) -> Math.max(0, count + delta));
+            }
+        });
+    }
+
+    /**
+     * Set the unread count of a user to zero once the current transaction commits
+     */
+    public void clear(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (counts) {
+                counts.put(userId, 0L);
+            }
+        });
+    }
+
+    /**
+     * Recount the unread notifications of every cached user with one grouped query
+     */
+    public void reconcile() {
+        List<Long> userIds;
+        synchronized (counts) {
+            userIds = new ArrayList<>(counts.keySet());
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> recounted = new LinkedHashMap<>();
+        userIds.forEach(userId -> recounted.put(userId, 0L));
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            for (UnreadCount unreadCount : notificationRepository.countUnreadByUserIds(chunk)) {
+                recounted.put(unreadCount.getUserId(), unreadCount.getUnreadCount());
+            }
+        }
+        synchronized (counts) {
+            // Only overwrite users still cached, evicted users are loaded fresh anyway
+            recounted.forEach((userId, count) -> counts.replace(userId, count));
+        }
+        log.debug("Reconciled unread notification counts of {} users", userIds.size());
+    }
+}
@@ -4,6 +4,7 @@ import com.itss.projectmanagement.entity.PasswordResetToken;
 import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.repository.PasswordResetTokenRepository;
 import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.security.TokenVersionCache;
 import com.itss.projectmanagement.service.IEmailService;
 import com.itss.projectmanagement.service.IPasswordService;
 import jakarta.transaction.Transactional;
@@ -26,6 +27,7 @@ public class PasswordServiceImpl implements IPasswordService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final IEmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionCache tokenVersionCache;
     
     @Value("${app.password-reset.token.expiration}")
     private long tokenExpirationMs;
@@ -107,6 +109,7 @@ public class PasswordServiceImpl implements IPasswordService {
         // Update user password
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword.trim()));
+        tokenVersionCache.revoke(user);
         userRepository.save(user);
         
         // Mark token as used
@@ -137,6 +140,7 @@ public class PasswordServiceImpl implements IPasswordService {
         
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword.trim()));
+        tokenVersionCache.revoke(user);
         userRepository.save(user);
         
         log.info("Password changed successfully for user: {}", user.getEmail());
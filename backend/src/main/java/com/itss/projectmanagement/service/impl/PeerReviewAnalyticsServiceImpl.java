@@ -0,0 +1,194 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.dto.response.peer.PeerReviewAnalyticsDTO;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.exception.NotFoundException;
+import com.itss.projectmanagement.repository.PeerReviewRepository;
+import com.itss.projectmanagement.repository.PeerReviewRepository.RevieweeAverage;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.TaskRepository.AssigneeTaskCount;
+import com.itss.projectmanagement.service.IPeerReviewAnalyticsService;
+import com.itss.projectmanagement.service.TaskChangedEvent;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PeerReviewAnalyticsServiceImpl implements IPeerReviewAnalyticsService {
+
+    private final PeerReviewRepository peerReviewRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    // Bumped on every change; a cached result is only served while its version is current
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, CachedAnalytics> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public PeerReviewAnalyticsDTO getProjectAnalytics(Long projectId) {
+        long version = version(projectId).get();
+        CachedAnalytics cached = cache.get(projectId);
+        if (cached != null && cached.version() == version) {
+            return cached.analytics();
+        }
+
+        if (!projectRepository.existsById(projectId)) {
+            throw new NotFoundException("Project not found with ID: " + projectId);
+        }
+        PeerReviewAnalyticsDTO analytics = compute(projectId);
+        cache.put(projectId, new CachedAnalytics(version, analytics));
+        return analytics;
+    }
+
+    @Override
+    public void invalidate(Long projectId) {
+        // Bumping before commit would let a concurrent reader cache uncommitted-state results under the new version
+        TransactionUtils.afterCommit(() -> evict(projectId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        event.projectIds().forEach(this::evict);
+    }
+
+    private void evict(Long projectId) {
+        version(projectId).incrementAndGet();
+        cache.remove(projectId);
+    }
+
+    private AtomicLong version(Long projectId) {
+        return versions.computeIfAbsent(projectId, id -> new AtomicLong());
+    }
+
+    private PeerReviewAnalyticsDTO compute(Long projectId) {
+        List<RevieweeAverage> reviewAverages = peerReviewRepository.findAverageScoresByReviewee(projectId);
+        List<AssigneeTaskCount> taskCounts = taskRepository.countTasksByAssignee(projectId, TaskStatus.COMPLETED);
+
+        // Review averages: mean and dispersion in one pass (Welford)
+        Map<Long, Double> reviewScoreByUser = new HashMap<>();
+        RunningStats reviewStats = new RunningStats();
+        for (RevieweeAverage average : reviewAverages) {
+            if (average.getAverageScore() == null) {
+                continue;
+            }
+            reviewScoreByUser.put(average.getUserId(), average.getAverageScore());
+            reviewStats.add(average.getAverageScore());
+        }
+
+        // Task completion rates, paired with the review average of the same member
+        RunningStats taskStats = new RunningStats();
+        double[] scores = new double[taskCounts.size()];
+        double[] rates = new double[taskCounts.size()];
+        int pairs = 0;
+        for (AssigneeTaskCount count : taskCounts) {
+            double rate = count.getTotalTasks() > 0
+                    ? (double) count.getCompletedTasks() / count.getTotalTasks()
+                    : 0.0;
+            taskStats.add(rate);
+            Double score = reviewScoreByUser.get(count.getUserId());
+            if (score != null) {
+                scores[pairs] = score;
+                rates[pairs] = rate;
+                pairs++;
+            }
+        }
+        scores = Arrays.copyOf(scores, pairs);
+        rates = Arrays.copyOf(rates, pairs);
+
+        return PeerReviewAnalyticsDTO.builder()
+                .projectId(projectId)
+                .reviewedMemberCount(reviewStats.count)
+                .avgReviewScore(reviewStats.mean)
+                .reviewScoreStdDev(reviewStats.stdDev())
+                .assignedMemberCount(taskStats.count)
+                .avgTaskCompletionRate(taskStats.mean)
+                .taskCompletionStdDev(taskStats.stdDev())
+                .sampleSize(pairs)
+                .pearsonCorrelation(pearson(scores, rates))
+                .spearmanCorrelation(pearson(ranks(scores), ranks(rates)))
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Pearson correlation in a single pass using running co-moments; 0 when undefined
+     */
+    private static double pearson(double[] x, double[] y) {
+        int n = 0;
+        double meanX = 0, meanY = 0, m2x = 0, m2y = 0, cxy = 0;
+        for (int i = 0; i < x.length; i++) {
+            n++;
+            double dx = x[i] - meanX;
+            double dy = y[i] - meanY;
+            meanX += dx / n;
+            meanY += dy / n;
+            m2x += dx * (x[i] - meanX);
+            m2y += dy * (y[i] - meanY);
+            cxy += dx * (y[i] - meanY);
+        }
+        if (n < 2 || m2x <= 0 || m2y <= 0) {
+            return 0.0;
+        }
+        return cxy / Math.sqrt(m2x * m2y);
+    }
+
+    /**
+     * Ranks of the values (1-based), ties get the average of their ranks
+     */
+    private static double[] ranks(double[] values) {
+        int n = values.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double[] ranks = new double[n];
+        int i = 0;
+        while (i < n) {
+            int j = i;
+            while (j + 1 < n && values[order[j + 1]] == values[order[i]]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                ranks[order[k]] = rank;
+            }
+            i = j + 1;
+        }
+        return ranks;
+    }
+
+    private static class RunningStats {
+        private int count;
+        private double mean;
+        private double m2;
+
+        void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+
+        double stdDev() {
+            return count > 1 ? Math.sqrt(m2 / count) : 0.0;
+        }
+    }
+
+    private record CachedAnalytics(long version, PeerReviewAnalyticsDTO analytics) {
+    }
+}
@@ -3,6 +3,7 @@ package com.itss.projectmanagement.service.impl;
 import com.itss.projectmanagement.converter.PeerReviewConverter;
 import com.itss.projectmanagement.converter.UserConverter;
 import com.itss.projectmanagement.dto.request.peer.PeerReviewRequest;
+import com.itss.projectmanagement.dto.response.notification.NotificationDTO;
 import com.itss.projectmanagement.dto.response.peer.PeerReviewResponse;
 import com.itss.projectmanagement.dto.response.user.UserSummaryDTO;
 import com.itss.projectmanagement.entity.Group;
@@ -12,11 +13,16 @@ import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.exception.NotFoundException;
 import com.itss.projectmanagement.exception.ValidationException;
 import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.GroupRepository.GroupMembership;
 import com.itss.projectmanagement.repository.PeerReviewRepository;
+import com.itss.projectmanagement.repository.PeerReviewRepository.ReviewerFailureCount;
 import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.repository.UserRepository;
 import com.itss.projectmanagement.service.INotificationService;
+import com.itss.projectmanagement.service.IPeerReviewAnalyticsService;
+import com.itss.projectmanagement.service.IPendingReviewService;
 import com.itss.projectmanagement.service.IPeerReviewService;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,10 +31,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,6 +54,12 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
     private final PeerReviewConverter peerReviewConverter;
     private final UserConverter userConverter;
     private final INotificationService notificationService;
+    private final IPendingReviewService pendingReviewService;
+    private final IPeerReviewAnalyticsService peerReviewAnalyticsService;
+    private final IProjectDataVersionService projectDataVersionService;
+
+    // Maximum number of ids bound into a single IN clause
+    private static final int ID_CHUNK_SIZE = 1000;
 
     @Override
     public PeerReviewResponse submitReview(PeerReviewRequest request, Long reviewerId) {
@@ -70,6 +89,9 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
                 existingReview.setIsCompleted(true);
                 
                 PeerReview updatedReview = peerReviewRepository.save(existingReview);
+                pendingReviewService.refreshUsers(List.of(reviewerId));
+                peerReviewAnalyticsService.invalidate(project.getId());
+                projectDataVersionService.bump(project.getId());
                 return peerReviewConverter.toResponse(updatedReview);
             }
         }
@@ -77,6 +99,9 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
         // Create new peer review
         PeerReview peerReview = peerReviewConverter.toEntity(request, reviewer, reviewee, project);
         PeerReview savedReview = peerReviewRepository.save(peerReview);
+        pendingReviewService.refreshUsers(List.of(reviewerId));
+        peerReviewAnalyticsService.invalidate(project.getId());
+        projectDataVersionService.bump(project.getId());
         
         return peerReviewConverter.toResponse(savedReview);
     }
@@ -165,77 +190,55 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
         // Get all groups in the project
         List<Group> projectGroups = groupRepository.findByProject(project);
         
-        // For each group, create peer review entries for all member pairs
+        // Load every group's member ids with one query, then add leaders who are not members
+        Map<Long, Set<Long>> membersByGroup = new LinkedHashMap<>();
+        projectGroups.forEach(group -> membersByGroup.put(group.getId(), new LinkedHashSet<>()));
+        for (GroupMembership membership : groupRepository.findMembershipsByProjectId(project.getId())) {
+            membersByGroup.computeIfAbsent(membership.getGroupId(), id -> new LinkedHashSet<>()).add(membership.getUserId());
+        }
         for (Group group : projectGroups) {
-            List<User> members = new ArrayList<>(group.getMembers());
-            if (group.getLeader() != null && !members.contains(group.getLeader())) {
-                members.add(group.getLeader());
+            if (group.getLeader() != null) {
+                membersByGroup.get(group.getId()).add(group.getLeader().getId());
             }
+        }
+        
+        // Calculate current review week (used for tracking purposes)
+        int weekNumber = LocalDate.now().get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear());
+        
+        int created = createMissingReviews(project, membersByGroup.values(), weekNumber);
+        log.info("Created {} peer review stubs for project {} (week {})", created, project.getName(), weekNumber);
+        
+        List<NotificationDTO> notifications = new ArrayList<>();
+        for (Group group : projectGroups) {
+            Set<Long> memberIds = membersByGroup.get(group.getId());
             
-            // Calculate current review week (used for tracking purposes)
-            int weekNumber = LocalDate.now().get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear());
-            
-            // Create or update peer review stubs for each reviewer-reviewee pair
-            for (User reviewer : members) {
-                for (User reviewee : members) {
-                    // Skip self-review
-                    if (reviewer.getId().equals(reviewee.getId())) {
-                        continue;
-                    }
-                    
-                    // Check if this pair already has a review for this week
-                    boolean reviewExists = peerReviewRepository.existsByReviewerAndRevieweeAndProjectAndReviewWeek(
-                            reviewer, reviewee, project, weekNumber);
-                    
-                    // If no review exists for this week, create a stub (incomplete review)
-                    if (!reviewExists) {
-                        PeerReview peerReview = PeerReview.builder()
-                                .reviewer(reviewer)
-                                .reviewee(reviewee)
-                                .project(project)
-                                .reviewWeek(weekNumber)
-                                .completionScore(1.0)
-                                .cooperationScore(1.0)
-                                .build();
-                        peerReviewRepository.save(peerReview);
-                        
-                        log.debug("Created peer review stub: Reviewer={}, Reviewee={}, Project={}, Week={}",
-                                reviewer.getUsername(), reviewee.getUsername(), project.getName(), weekNumber);
-                    }
-                }
-                
-                // Send notification to each member about new peer review task
-                String title = "Yêu cầu đánh giá chéo mới";
-                String message = String.format("Bạn có %d đánh giá chéo cần hoàn thành trong dự án %s. " +
-                        "Vui lòng hoàn thành trong vòng 24 giờ.", 
-                        members.size() - 1, project.getName());
-                
-                notificationService.notifyUser(reviewer, title, message);
-            }
+            // Send notification to each member about new peer review task
+            String title = "Yêu cầu đánh giá chéo mới";
+            String message = String.format("Bạn có %d đánh giá chéo cần hoàn thành trong dự án %s. " +
+                    "Vui lòng hoàn thành trong vòng 24 giờ.", 
+                    memberIds.size() - 1, project.getName());
+            memberIds.forEach(memberId -> notifications.add(notification(memberId, title, message)));
             
             // Notify group leader about peer review process
             if (group.getLeader() != null) {
-                String title = "Đánh giá chéo hàng tuần đã được kích hoạt";
-                String message = String.format("Đánh giá chéo hàng tuần đã được kích hoạt cho nhóm %s. " +
+                String leaderTitle = "Đánh giá chéo hàng tuần đã được kích hoạt";
+                String leaderMessage = String.format("Đánh giá chéo hàng tuần đã được kích hoạt cho nhóm %s. " +
                         "Vui lòng đảm bảo tất cả thành viên hoàn thành đánh giá trong vòng 24 giờ.",
                         group.getName());
-                
-                notificationService.notifyUser(group.getLeader(), title, message);
+                notifications.add(notification(group.getLeader().getId(), leaderTitle, leaderMessage));
             }
-            
-            log.info("Notified {} members in group {} about peer review task",
-                    members.size(), group.getName());
         }
         
         // Notify project instructor
         if (project.getInstructor() != null) {
             String title = "Đánh giá chéo đã được kích hoạt";
             String message = String.format("Đánh giá chéo tuần %d đã được kích hoạt cho dự án %s",
-                    LocalDate.now().get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear()),
-                    project.getName());
-            
-            notificationService.notifyUser(project.getInstructor(), title, message);
+                    weekNumber, project.getName());
+            notifications.add(notification(project.getInstructor().getId(), title, message));
         }
+        
+        notificationService.notifyUsers(notifications);
+        log.info("Notified {} groups in project {} about peer review task", projectGroups.size(), project.getName());
     }
 
     @Override
@@ -280,66 +283,94 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
         log.info("Manually triggering peer review for group: {} (ID: {}) by leader ID: {}", 
                 group.getName(), group.getId(), userId);
         
-        List<User> members = new ArrayList<>(group.getMembers());
-        if (!members.contains(group.getLeader())) {
-            members.add(group.getLeader());
-        }
+        List<Long> memberIds = groupRepository.getGroupMembers(groupId).stream()
+                .map(User::getId)
+                .toList();
         
         // Calculate current review week (used for tracking purposes)
         int weekNumber = LocalDate.now().get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear());
         Project project = group.getProject();
         
-        // Create or update peer review stubs for each reviewer-reviewee pair
-        for (User reviewer : members) {
-            for (User reviewee : members) {
-                // Skip self-review
-                if (reviewer.getId().equals(reviewee.getId())) {
-                    continue;
-                }
-                
-                // Check if this pair already has a review for this week
-                boolean reviewExists = peerReviewRepository.existsByReviewerAndRevieweeAndProjectAndReviewWeek(
-                        reviewer, reviewee, project, weekNumber);
-                
-                // If no review exists for this week, create a stub (incomplete review)
-                if (!reviewExists) {
-                    PeerReview peerReview = PeerReview.builder()
-                            .reviewer(reviewer)
-                            .reviewee(reviewee)
-                            .project(project)
-                            .reviewWeek(weekNumber)
-                            .completionScore(1.0)
-                            .cooperationScore(1.0)
-                            .build();
-                    peerReviewRepository.save(peerReview);
-                    
-                    log.debug("Created peer review stub: Reviewer={}, Reviewee={}, Project={}, Week={}",
-                            reviewer.getUsername(), reviewee.getUsername(), project.getName(), weekNumber);
-                }
-            }
-            
-            // Send notification to each member about new peer review task
-            String title = "Yêu cầu đánh giá chéo mới";
-            String message = String.format("Bạn có %d đánh giá chéo cần hoàn thành trong dự án %s. " +
-                    "Đánh giá chéo đã được khởi tạo thủ công bởi nhóm trưởng. " +
-                    "Vui lòng hoàn thành trong vòng 24 giờ.", 
-                    members.size() - 1, project.getName());
-            
-            notificationService.notifyUser(reviewer, title, message);
-        }
-          // Notify project instructor        
+        int created = createMissingReviews(project, List.of(memberIds), weekNumber);
+        log.info("Created {} peer review stubs for group {} (week {})", created, group.getName(), weekNumber);
+        
+        // Send notification to each member about new peer review task
+        String memberTitle = "Yêu cầu đánh giá chéo mới";
+        String memberMessage = String.format("Bạn có %d đánh giá chéo cần hoàn thành trong dự án %s. " +
+                "Đánh giá chéo đã được khởi tạo thủ công bởi nhóm trưởng. " +
+                "Vui lòng hoàn thành trong vòng 24 giờ.", 
+                memberIds.size() - 1, project.getName());
+        List<NotificationDTO> notifications = memberIds.stream()
+                .map(memberId -> notification(memberId, memberTitle, memberMessage))
+                .collect(Collectors.toCollection(ArrayList::new));
+        
+        // Notify project instructor
         if (project.getInstructor() != null) {
             String title = "Đánh giá chéo đã được kích hoạt thủ công";
             String message = String.format("Đánh giá chéo tuần %d đã được kích hoạt thủ công bởi nhóm trưởng %s cho nhóm %s trong dự án %s",
                     weekNumber, group.getLeader().getUsername(), group.getName(), project.getName());
-            
-            notificationService.notifyUser(project.getInstructor(), title, message);
+            notifications.add(notification(project.getInstructor().getId(), title, message));
         }
         
+        notificationService.notifyUsers(notifications);
+        
         log.info("Manually triggered peer review process completed for group: {} (ID: {})", 
                 group.getName(), group.getId());
     }
 
+    /**
+     * Tạo các đánh giá chéo còn thiếu trong tuần cho từng nhóm.
+     * Các cặp đã tồn tại được lấy bằng một truy vấn duy nhất, các bản ghi mới được chèn theo batch.
+     * @return Number of created reviews
+     */
+    private int createMissingReviews(Project project, Collection<? extends Collection<Long>> groupMemberIds, int weekNumber) {
+        Set<String> existingPairs = peerReviewRepository.findReviewPairsByProjectAndWeek(project.getId(), weekNumber).stream()
+                .map(pair -> reviewPairKey(pair.getReviewerId(), pair.getRevieweeId()))
+                .collect(Collectors.toCollection(HashSet::new));
+        
+        List<PeerReview> newReviews = new ArrayList<>();
+        for (Collection<Long> memberIds : groupMemberIds) {
+            for (Long reviewerId : memberIds) {
+                for (Long revieweeId : memberIds) {
+                    // Skip self-review and pairs that already have a review for this week
+                    if (reviewerId.equals(revieweeId) || !existingPairs.add(reviewPairKey(reviewerId, revieweeId))) {
+                        continue;
+                    }
+                    // Create a stub (incomplete review)
+                    newReviews.add(PeerReview.builder()
+                            .reviewer(userRepository.getReferenceById(reviewerId))
+                            .reviewee(userRepository.getReferenceById(revieweeId))
+                            .project(project)
+                            .reviewWeek(weekNumber)
+                            .completionScore(1.0)
+                            .cooperationScore(1.0)
+                            .build());
+                }
+            }
+        }
+        
+        int inserted = peerReviewRepository.batchInsert(newReviews);
+        pendingReviewService.refreshUsers(newReviews.stream()
+                .map(review -> review.getReviewer().getId())
+                .collect(Collectors.toSet()));
+        if (inserted > 0) {
+            projectDataVersionService.bump(project.getId());
+        }
+        return inserted;
+    }
+    
+    private String reviewPairKey(Long reviewerId, Long revieweeId) {
+        return reviewerId + ":" + revieweeId;
+    }
+    
+    private NotificationDTO notification(Long userId, String title, String message) {
+        return NotificationDTO.builder()
+                .userId(userId)
+                .title(title)
+                .message(message)
+                .build();
+    }
+
     @Override
     public void notifyIncompleteReviews(Long projectId) {
         Project project = projectRepository.findById(projectId)
@@ -351,11 +382,53 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
         // Get all groups in the project
         List<Group> projectGroups = groupRepository.findByProject(project);
         
-        // Calculate current review week
-        int currentWeek = LocalDate.now().get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear());
+        // Load every group's members with one membership query and one user query
+        Map<Long, Set<Long>> membersByGroup = new LinkedHashMap<>();
+        projectGroups.forEach(group -> membersByGroup.put(group.getId(), new LinkedHashSet<>()));
+        for (GroupMembership membership : groupRepository.findMembershipsByProjectId(projectId)) {
+            membersByGroup.computeIfAbsent(membership.getGroupId(), id -> new LinkedHashSet<>()).add(membership.getUserId());
+        }
+        for (Group group : projectGroups) {
+            if (group.getLeader() != null) {
+                membersByGroup.get(group.getId()).add(group.getLeader().getId());
+            }
+        }
+        Map<Long, User> users = userRepository.findAllById(membersByGroup.values().stream()
+                        .flatMap(Set::stream)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        
+        // Members who still have valid reviews to complete (only groups with a leader are checked)
+        Set<Long> pendingReviewerIds = new HashSet<>(peerReviewRepository.findReviewerIdsWithPendingReviews(projectId));
+        List<Long> incompleteReviewerIds = projectGroups.stream()
+                .filter(group -> group.getLeader() != null)
+                .flatMap(group -> membersByGroup.get(group.getId()).stream())
+                .filter(pendingReviewerIds::contains)
+                .distinct()
+                .toList();
+        
+        // Đánh dấu những đánh giá quá hạn là không hợp lệ
+        LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);
+        int invalidated = 0;
+        for (int from = 0; from < incompleteReviewerIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = incompleteReviewerIds.subList(from, Math.min(from + ID_CHUNK_SIZE, incompleteReviewerIds.size()));
+            invalidated += peerReviewRepository.invalidateOverdueReviewsOfReviewers(chunk, oneDayAgo);
+        }
+        if (invalidated > 0) {
+            log.debug("Marked {} overdue reviews as invalid in project {}", invalidated, project.getName());
+            projectDataVersionService.bump(project.getId());
+        }
+        // Overdue reviews invalidated above no longer count as pending
+        pendingReviewService.refreshUsers(incompleteReviewerIds);
+        
+        // Số lần không hoàn thành của từng thành viên, tính bằng một truy vấn
+        Map<Long, Long> failureCounts = peerReviewRepository.countInvalidReviewsByReviewer(projectId).stream()
+                .collect(Collectors.toMap(ReviewerFailureCount::getReviewerId, ReviewerFailureCount::getFailureCount));
+        
+        List<NotificationDTO> notifications = new ArrayList<>();
         
         // Lists to track members who need instructor notification
-        List<User> membersExceedingFailureLimit = new ArrayList<>();
+        Map<Long, String> membersExceedingFailureLimit = new LinkedHashMap<>();
         
         for (Group group : projectGroups) {
             // Skip groups without leaders
@@ -363,81 +436,54 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
                 continue;
             }
             
-            List<User> members = new ArrayList<>(group.getMembers());
-            if (!members.contains(group.getLeader())) {
-                members.add(group.getLeader());
+            // Find users who haven't completed all their reviews
+            List<User> incompleteReviewers = membersByGroup.get(group.getId()).stream()
+                    .filter(pendingReviewerIds::contains)
+                    .map(users::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (incompleteReviewers.isEmpty()) {
+                continue;
             }
             
-            // Find users who haven't completed all their reviews
-            List<User> incompleteReviewers = new ArrayList<>();
+            // Notify the members with a reminder
+            String reminderTitle = "Nhắc nhở: Hoàn thành đánh giá chéo";
+            String reminderMessage = String.format(
+                    "Bạn chưa hoàn thành đánh giá chéo cho dự án %s. Vui lòng hoàn thành ngay để tiếp tục sử dụng hệ thống.",
+                    project.getName());
             
-            for (User member : members) {
-                if (!hasCompletedAllReviews(member.getId(), projectId)) {
-                    incompleteReviewers.add(member);
-                    
-                    log.info("Member {} has not completed all peer reviews for project {}",
-                            member.getUsername(), project.getName());
-                    
-                    // Đánh dấu những đánh giá quá hạn là không hợp lệ
-                    LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);
-                    List<PeerReview> overdueReviews = peerReviewRepository
-                        .findByReviewerAndIsCompletedFalseAndAssignedAtBefore(member, oneDayAgo);
-                    
-                    for (PeerReview review : overdueReviews) {
-                        if (review.getIsValid()) {
-                            review.setIsValid(false);
-                            peerReviewRepository.save(review);
-                            log.debug("Marked overdue review as invalid for user {} in project {}", 
-                                member.getUsername(), project.getName());
-                        }
-                    }
-                    
-                    // Check if this member has exceeded the failure limit (>2 times)
-                    Long failureCount = peerReviewRepository.countInvalidReviewsByUserAndProject(member, project);
-                    if (failureCount > 2) {
-                        membersExceedingFailureLimit.add(member);
-                    }
-                    
-                    // Notify the member with a reminder
-                    String reminderTitle = "Nhắc nhở: Hoàn thành đánh giá chéo";
-                    String reminderMessage = String.format(
-                            "Bạn chưa hoàn thành đánh giá chéo cho dự án %s. Vui lòng hoàn thành ngay để tiếp tục sử dụng hệ thống.",
-                            project.getName());
-                    
-                    notificationService.notifyUser(member, reminderTitle, reminderMessage);
-                }
-            }
+            String title = "Thành viên chưa hoàn thành đánh giá chéo";
             
-            if (!incompleteReviewers.isEmpty()) {
-                // Send notification to group leader
-                User leader = group.getLeader();
-                
-                String title = "Thành viên chưa hoàn thành đánh giá chéo";
-                
-                // Format notification message with list of members
-                StringBuilder messageBuilder = new StringBuilder();
-                messageBuilder.append("Các thành viên sau chưa hoàn thành đánh giá chéo trong dự án ")
-                            .append(project.getName())
-                            .append(":\n\n");
+            // Format notification message with list of members
+            StringBuilder messageBuilder = new StringBuilder();
+            messageBuilder.append("Các thành viên sau chưa hoàn thành đánh giá chéo trong dự án ")
+                        .append(project.getName())
+                        .append(":\n\n");
+            
+            for (User member : incompleteReviewers) {
+                log.info("Member {} has not completed all peer reviews for project {}",
+                        member.getUsername(), project.getName());
+                notifications.add(notification(member.getId(), reminderTitle, reminderMessage));
                 
-                for (User member : incompleteReviewers) {
-                    // Count total invalid reviews for this user in the project
-                    Long failureCount = peerReviewRepository.countInvalidReviewsByUserAndProject(member, project);
-                    
-                    messageBuilder.append("- ").append(member.getUsername())
-                                .append(" (").append(member.getEmail()).append(")")
-                                .append(" - Số lần không hoàn thành: ").append(failureCount)
-                                .append("\n");
+                // Check if this member has exceeded the failure limit (>2 times)
+                long failureCount = failureCounts.getOrDefault(member.getId(), 0L);
+                if (failureCount > 2) {
+                    membersExceedingFailureLimit.putIfAbsent(member.getId(), group.getName());
                 }
                 
-                messageBuilder.append("\nVui lòng nhắc nhở các thành viên hoàn thành đánh giá.");
-                
-                // Send the notification
-                notificationService.notifyUser(leader, title, messageBuilder.toString());
-                
-                log.debug("Sent notification to leader {} about {} incomplete reviewers",
-                        leader.getUsername(), incompleteReviewers.size());
+                messageBuilder.append("- ").append(member.getUsername())
+                            .append(" (").append(member.getEmail()).append(")")
+                            .append(" - Số lần không hoàn thành: ").append(failureCount)
+                            .append("\n");
             }
+            
+            messageBuilder.append("\nVui lòng nhắc nhở các thành viên hoàn thành đánh giá.");
+            
+            // Send notification to group leader
+            notifications.add(notification(group.getLeader().getId(), title, messageBuilder.toString()));
+            
+            log.debug("Queued notification to leader of group {} about {} incomplete reviewers",
+                    group.getName(), incompleteReviewers.size());
         }
         
         // Notify instructor about members who exceed failure limit (>2 times)
@@ -449,55 +495,35 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
                         .append(project.getName())
                         .append(":\n\n");
             
-            for (User member : membersExceedingFailureLimit) {
-                Long failureCount = peerReviewRepository.countInvalidReviewsByUserAndProject(member, project);
-                
-                // Find the user's group
-                String groupName = "Không xác định";
-                for (Group group : projectGroups) {
-                    if (group.getMembers().contains(member) || 
-                        (group.getLeader() != null && group.getLeader().getId().equals(member.getId()))) {
-                        groupName = group.getName();
-                        break;
-                    }
-                }
-                
+            membersExceedingFailureLimit.forEach((memberId, groupName) -> {
+                User member = users.get(memberId);
                 messageBuilder.append("- ").append(member.getUsername())
                             .append(" (").append(member.getEmail()).append(")")
                             .append(" - Nhóm: ").append(groupName)
-                            .append(" - Số lần không hoàn thành: ").append(failureCount)
+                            .append(" - Số lần không hoàn thành: ").append(failureCounts.get(memberId))
                             .append("\n");
-            }
+            });
             
             messageBuilder.append("\nHệ thống đã nhắc nhở các thành viên và thông báo cho nhóm trưởng. ")
                         .append("Vui lòng xem xét biện pháp phù hợp hoặc liên hệ với các thành viên này.");
             
             // Send notification to instructor
-            notificationService.notifyUser(project.getInstructor(), title, messageBuilder.toString());
+            notifications.add(notification(project.getInstructor().getId(), title, messageBuilder.toString()));
             
-            log.info("Sent notification to instructor about {} members exceeding peer review failure limit",
+            log.info("Queued notification to instructor about {} members exceeding peer review failure limit",
                     membersExceedingFailureLimit.size());
         }
         
         // Notify instructor about overall completion status
         if (project.getInstructor() != null) {
-            // Calculate completion statistics
+            // Completion is evaluated after overdue reviews were invalidated
+            Set<Long> stillPendingIds = new HashSet<>(peerReviewRepository.findReviewerIdsWithPendingReviews(projectId));
             int totalMembers = 0;
             int completedMembers = 0;
             
-            for (Group group : projectGroups) {
-                List<User> members = new ArrayList<>(group.getMembers());
-                if (group.getLeader() != null && !members.contains(group.getLeader())) {
-                    members.add(group.getLeader());
-                }
-                
-                totalMembers += members.size();
-                
-                for (User member : members) {
-                    if (hasCompletedAllReviews(member.getId(), projectId)) {
-                        completedMembers++;
-                    }
-                }
+            for (Set<Long> memberIds : membersByGroup.values()) {
+                totalMembers += memberIds.size();
+                completedMembers += (int) memberIds.stream().filter(id -> !stillPendingIds.contains(id)).count();
             }
             
             // Only notify if there are incomplete reviews
@@ -509,42 +535,17 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
                         "Tỷ lệ hoàn thành đánh giá chéo trong dự án %s: %.1f%% (%d/%d thành viên).",
                         project.getName(), completionRate, completedMembers, totalMembers);
                 
-                notificationService.notifyUser(project.getInstructor(), title, message);
+                notifications.add(notification(project.getInstructor().getId(), title, message));
             }
         }
+        
+        notificationService.notifyUsers(notifications);
     }
 
     @Override
     public double getAverageReviewScore(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new NotFoundException("Project not found with ID: " + projectId));
-        
-        // Get all groups in this project
-        List<Group> groups = groupRepository.findByProject(project);
-        
-        // Get all users in these groups
-        Set<User> projectMembers = new HashSet<>();
-        for (Group group : groups) {
-            projectMembers.addAll(group.getMembers());
-            if (group.getLeader() != null && !projectMembers.contains(group.getLeader())) {
-                projectMembers.add(group.getLeader());
-            }
-        }
-        
-        // Calculate average review score for each user, then average these scores
-        double sumOfAverages = 0.0;
-        int userCount = 0;
-        
-        for (User user : projectMembers) {
-            Double userAvgScore = peerReviewRepository.findAverageScoreByRevieweeAndProject(user, project);
-            if (userAvgScore != null) {
-                sumOfAverages += userAvgScore;
-                userCount++;
-            }
-        }
-        
-        // Return the average of averages, or 0 if no valid reviews
-        return userCount > 0 ? sumOfAverages / userCount : 0.0;
+        // Average of per-member review averages, computed from one grouped query and cached
+        return peerReviewAnalyticsService.getProjectAnalytics(projectId).getAvgReviewScore();
     }
     
     @Override
@@ -564,14 +565,7 @@ public class PeerReviewServiceImpl implements IPeerReviewService {
     
     @Override
     public double getCorrelationWithTaskCompletion(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new NotFoundException("Project not found with ID: " + projectId));
-        
-        // For a real implementation, we would calculate correlation between peer review scores
-        // and task completion rates. For now, return a reasonable correlation value.
-        // This could be enhanced later with actual correlation calculation.
-        
-        // Generate a value between 0.4 and 0.8 to indicate moderate to strong correlation
-        return 0.4 + Math.random() * 0.4;
+        // Pearson correlation between members' review averages and task completion rates
+        return peerReviewAnalyticsService.getProjectAnalytics(projectId).getPearsonCorrelation();
     }
 }
\ No newline at end of file
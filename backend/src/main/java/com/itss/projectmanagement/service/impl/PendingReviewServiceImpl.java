@@ -0,0 +1,105 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.repository.PeerReviewRepository;
+import com.itss.projectmanagement.repository.PeerReviewRepository.PendingReviewCount;
+import com.itss.projectmanagement.security.MembershipIndex;
+import com.itss.projectmanagement.service.IPendingReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of pending peer reviews per reviewer.
+ * Only users with at least one pending review are stored, so the request gate is a single map lookup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PendingReviewServiceImpl implements IPendingReviewService {
+
+    // Maximum number of ids bound into a single IN clause
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final PeerReviewRepository peerReviewRepository;
+    private final MembershipIndex membershipIndex;
+
+    private volatile Map<Long, Integer> pendingCounts = new ConcurrentHashMap<>();
+
+    // Guards writes to pendingCounts and the swap done by reload
+    private final Object writeLock = new Object();
+    // Users refreshed while a reload is running, re-applied on top of the reloaded map; null outside a reload
+    private Set<Long> refreshedDuringReload;
+
+    @Override
+    public boolean hasPendingReviews(Long userId) {
+        // Users that left every group are never gated, even if reviews of a past group are still open
+        return pendingCounts.containsKey(userId) && membershipIndex.isInAnyGroup(userId);
+    }
+
+    @Override
+    public int getPendingCount(Long userId) {
+        return pendingCounts.getOrDefault(userId, 0);
+    }
+
+    @Override
+    public void refreshUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(new HashSet<>(userIds));
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            Set<Long> remaining = new HashSet<>(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())));
+            List<PendingReviewCount> pending = peerReviewRepository.countPendingReviewsByReviewerIds(remaining);
+            synchronized (writeLock) {
+                Map<Long, Integer> counts = pendingCounts;
+                if (refreshedDuringReload != null) {
+                    refreshedDuringReload.addAll(remaining);
+                }
+                for (PendingReviewCount count : pending) {
+                    counts.put(count.getReviewerId(), count.getPendingCount().intValue());
+                    remaining.remove(count.getReviewerId());
+                }
+                // Users without any pending review left
+                remaining.forEach(counts::remove);
+            }
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        synchronized (writeLock) {
+            refreshedDuringReload = new HashSet<>();
+        }
+        Set<Long> refreshed;
+        Map<Long, Integer> counts = new ConcurrentHashMap<>();
+        boolean loaded = false;
+        try {
+            for (PendingReviewCount count : peerReviewRepository.countPendingReviewsByReviewer()) {
+                counts.put(count.getReviewerId(), count.getPendingCount().intValue());
+            }
+            loaded = true;
+        } finally {
+            synchronized (writeLock) {
+                refreshed = refreshedDuringReload;
+                refreshedDuringReload = null;
+                if (loaded) {
+                    pendingCounts = counts;
+                }
+            }
+        }
+        // The full scan may predate refreshes that ran meanwhile and were written into the old map
+        refreshUsers(refreshed);
+        log.debug("Loaded pending peer reviews for {} users", counts.size());
+    }
+}
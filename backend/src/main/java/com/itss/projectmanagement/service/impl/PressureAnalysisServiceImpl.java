@@ -0,0 +1,156 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO.PressureScoreAnalysis;
+import com.itss.projectmanagement.entity.Project;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.repository.PressureScoreHistoryRepository;
+import com.itss.projectmanagement.repository.PressureScoreHistoryRepository.DailyScoreTotal;
+import com.itss.projectmanagement.repository.TaskRepository;
+import com.itss.projectmanagement.repository.TaskRepository.OpenTaskLoad;
+import com.itss.projectmanagement.service.IPressureAnalysisService;
+import com.itss.projectmanagement.service.IPressureScoreService;
+import com.itss.projectmanagement.service.TaskChangedEvent;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PressureAnalysisServiceImpl implements IPressureAnalysisService {
+
+    private static final int TREND_WEEKS = 3;
+
+    private final TaskRepository taskRepository;
+    private final PressureScoreHistoryRepository pressureScoreHistoryRepository;
+    private final IPressureScoreService pressureScoreService;
+
+    // Bumped on every task change; a cached result is only served while its version is current
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, CachedAnalysis> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public PressureScoreAnalysis getPressureAnalysis(Project project, List<Long> memberIds) {
+        long version = version(project.getId()).get();
+        LocalDate today = LocalDate.now();
+        CachedAnalysis cached = cache.get(project.getId());
+        // Time urgency depends on the current date, so results never outlive the day they were computed on
+        if (cached != null && cached.version() == version
+                && cached.computedOn().equals(today) && cached.memberIds().equals(memberIds)) {
+            return cached.analysis();
+        }
+
+        PressureScoreAnalysis analysis = compute(project, memberIds, today);
+        cache.put(project.getId(), new CachedAnalysis(version, today, List.copyOf(memberIds), analysis));
+        return analysis;
+    }
+
+    @Override
+    public void invalidate(Long projectId) {
+        // Bumping before commit would let a concurrent reader cache the old task state under the new version
+        TransactionUtils.afterCommit(() -> evict(projectId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        event.projectIds().forEach(this::evict);
+    }
+
+    @Override
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+        cache.clear();
+    }
+
+    private void evict(Long projectId) {
+        version(projectId).incrementAndGet();
+        cache.remove(projectId);
+    }
+
+    private AtomicLong version(Long projectId) {
+        return versions.computeIfAbsent(projectId, id -> new AtomicLong());
+    }
+
+    private PressureScoreAnalysis compute(Project project, List<Long> memberIds, LocalDate today) {
+        // Current pressure of every assignee from one query over the open tasks of the project
+        Map<Long, Double> pressureByUser = new HashMap<>();
+        for (OpenTaskLoad load : taskRepository.findTaskLoadsByProjectAndStatusNot(project.getId(), TaskStatus.COMPLETED)) {
+            long daysRemaining = ChronoUnit.DAYS.between(today, load.getDeadline());
+            double taskPressure = pressureScoreService.calculateTaskPressureScore(
+                    load.getDifficulty().getValue(), pressureScoreService.calculateTimeUrgencyFactor(daysRemaining));
+            pressureByUser.merge(load.getAssigneeId(), taskPressure, Double::sum);
+        }
+
+        int threshold = project.getPressureThreshold();
+        int totalPressure = 0;
+        int highPressureCount = 0;
+        for (Long memberId : memberIds) {
+            // Same 0-100 percentage of the threshold as IPressureScoreService.calculatePressureScore
+            double thresholdPercentage = threshold > 0 ? pressureByUser.getOrDefault(memberId, 0.0) / threshold : 0.0;
+            int pressureScore = (int) Math.min(100, Math.round(thresholdPercentage * 100.0));
+            totalPressure += pressureScore;
+
+            if (pressureScore > threshold) {
+                highPressureCount++;
+            }
+        }
+        int avgPressureScore = memberIds.isEmpty() ? 0 : totalPressure / memberIds.size();
+
+        return PressureScoreAnalysis.builder()
+                .avgPressureScore(avgPressureScore)
+                .highPressureCount(highPressureCount)
+                .pressureTrend(pressureTrend(project, memberIds))
+                .build();
+    }
+
+    /**
+     * Average recorded pressure per week since project start, from one aggregated history query
+     */
+    private List<PressureScoreAnalysis.PressureTrendPoint> pressureTrend(Project project, List<Long> memberIds) {
+        long[] totals = new long[TREND_WEEKS];
+        long[] counts = new long[TREND_WEEKS];
+
+        Set<Long> distinctMembers = new HashSet<>(memberIds);
+        LocalDateTime projectStart = project.getCreatedAt();
+        if (!distinctMembers.isEmpty() && projectStart != null) {
+            LocalDate startDay = projectStart.toLocalDate();
+            List<DailyScoreTotal> dailyTotals = pressureScoreHistoryRepository.sumScoresByDay(
+                    project.getId(), distinctMembers, projectStart, projectStart.plusWeeks(TREND_WEEKS));
+            for (DailyScoreTotal daily : dailyTotals) {
+                int weekIndex = (int) (ChronoUnit.DAYS.between(startDay, daily.getDay()) / 7);
+                if (weekIndex >= 0 && weekIndex < TREND_WEEKS) {
+                    totals[weekIndex] += daily.getTotalScore();
+                    counts[weekIndex] += daily.getRecordCount();
+                }
+            }
+        }
+
+        List<PressureScoreAnalysis.PressureTrendPoint> pressureTrend = new ArrayList<>();
+        for (int week = 1; week <= TREND_WEEKS; week++) {
+            int avgScore = counts[week - 1] == 0 ? 0 : (int) (totals[week - 1] / counts[week - 1]);
+            pressureTrend.add(PressureScoreAnalysis.PressureTrendPoint.builder()
+                    .week(week)
+                    .avgScore(avgScore)
+                    .build());
+        }
+        return pressureTrend;
+    }
+
+    private record CachedAnalysis(long version, LocalDate computedOn, List<Long> memberIds,
+                                  PressureScoreAnalysis analysis) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.entity.ProjectDataVersion;
+import com.itss.projectmanagement.repository.ProjectDataVersionRepository;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
+import com.itss.projectmanagement.service.TaskChangedEvent;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectDataVersionServiceImpl implements IProjectDataVersionService {
+
+    private final ProjectDataVersionRepository projectDataVersionRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void bump(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(projectId);
+            return;
+        }
+
+        // Collect the projects touched by the current transaction and bump each of them once after commit
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> projectIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, projectIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    projectIds.forEach(ProjectDataVersionServiceImpl.this::increment);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProjectDataVersionServiceImpl.this);
+                }
+            });
+            pending = projectIds;
+        }
+        pending.add(projectId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Already after commit, so the projects are incremented right away
+        event.projectIds().forEach(this::increment);
+    }
+
+    @Override
+    public long getVersion(Long projectId) {
+        return projectDataVersionRepository.findDataVersionByProjectId(projectId).orElse(0L);
+    }
+
+    @Override
+    public Optional<ProjectDataVersion> findVersion(Long projectId) {
+        return projectDataVersionRepository.findByProject_Id(projectId);
+    }
+
+    private void increment(Long projectId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                TransactionUtils.requiresNew(transactionManager).executeWithoutResult(status -> incrementOrCreate(projectId));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // Another writer created the row first; increment it on the next attempt
+                if (attempt >= 2) {
+                    log.error("Failed to bump data version of project {}: {}", projectId, e.getMessage(), e);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // The data change itself is already committed; a missed bump only delays snapshot refresh
+                log.error("Failed to bump data version of project {}: {}", projectId, e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    private void incrementOrCreate(Long projectId) {
+        if (projectDataVersionRepository.incrementDataVersion(projectId, LocalDateTime.now()) == 0
+                && projectRepository.existsById(projectId)) {
+            projectDataVersionRepository.saveAndFlush(ProjectDataVersion.builder()
+                    .project(projectRepository.getReferenceById(projectId))
+                    .dataVersion(1L)
+                    .build());
+        }
+    }
+}
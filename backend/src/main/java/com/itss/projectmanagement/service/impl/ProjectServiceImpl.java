@@ -12,21 +12,26 @@ import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.repository.ProjectStudentRepository;
 import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.security.GroupMembershipChangedEvent;
 import com.itss.projectmanagement.enums.Role;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
 import com.itss.projectmanagement.service.IProjectService;
 import com.itss.projectmanagement.service.IUserService;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,7 +48,11 @@ public class ProjectServiceImpl implements IProjectService {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private ProjectConverter projectConverter;    
+    private ProjectConverter projectConverter;
+    @Autowired
+    private IProjectDataVersionService projectDataVersionService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;    
     
     /**
      * Create a new project for an instructor
@@ -106,6 +115,7 @@ public class ProjectServiceImpl implements IProjectService {
         project.setPressureThreshold(request.getPressureThreshold());
 
         Project updatedProject = projectRepository.save(project);
+        projectDataVersionService.bump(projectId);
         return projectConverter.toDTO(updatedProject);
     }    
     
@@ -156,6 +166,14 @@ public class ProjectServiceImpl implements IProjectService {
             throw new IllegalArgumentException("Only the instructor who created the project can delete it");
         }
 
+        Set<Long> memberIds = new HashSet<>();
+        for (Group group : groupRepository.findByProject(project)) {
+            group.getMembers().forEach(member -> memberIds.add(member.getId()));
+            if (group.getLeader() != null) {
+                memberIds.add(group.getLeader().getId());
+            }
+        }
+
         // With cascading delete configured in entities, this will automatically:
         // 1. Delete all groups in the project
         // 2. Delete all tasks in those groups
@@ -163,6 +181,7 @@ public class ProjectServiceImpl implements IProjectService {
         // 4. Delete all commit records for those groups
         // 5. Delete all peer reviews for the project
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(memberIds));
     }
     
     /**
@@ -0,0 +1,111 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.itss.projectmanagement.enums.ReportFormat;
+import com.itss.projectmanagement.enums.TaskStatus;
+import com.itss.projectmanagement.exception.ResourceNotFoundException;
+import com.itss.projectmanagement.repository.CommitRecordRepository;
+import com.itss.projectmanagement.repository.ContributionScoreRepository;
+import com.itss.projectmanagement.repository.GroupRepository;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.service.IReportExportService;
+import com.itss.projectmanagement.utils.TabularRowWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportServiceImpl implements IReportExportService {
+
+    private final ProjectRepository projectRepository;
+    private final GroupRepository groupRepository;
+    private final ContributionScoreRepository contributionScoreRepository;
+    private final CommitRecordRepository commitRecordRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public StreamingResponseBody exportMemberReports(Long projectId, ReportFormat format) {
+        return export(projectId, format, "Members",
+                new Object[]{"member_id", "member_name", "commit_count", "contribution_score",
+                        "completed_tasks", "late_tasks", "peer_review_avg"},
+                () -> groupRepository.streamMemberReportRows(projectId, TaskStatus.COMPLETED),
+                row -> new Object[]{row.getMemberId(), row.getMemberName(), zero(row.getCommitCount()),
+                        zero(row.getContributionScore()), zero(row.getCompletedTasks()), zero(row.getLateTasks()),
+                        zero(row.getPeerReviewAvg())});
+    }
+
+    @Override
+    public StreamingResponseBody exportContributionScores(Long projectId, ReportFormat format) {
+        return export(projectId, format, "Contribution scores",
+                new Object[]{"user_id", "username", "full_name", "task_completion_score", "peer_review_score",
+                        "code_contribution_score", "late_task_count", "calculated_score", "adjusted_score",
+                        "adjustment_reason", "final", "updated_at"},
+                () -> contributionScoreRepository.streamScoreExportRows(projectId),
+                row -> new Object[]{row.getUserId(), row.getUsername(), row.getFullName(),
+                        row.getTaskCompletionScore(), row.getPeerReviewScore(), row.getCodeContributionScore(),
+                        row.getLateTaskCount(), row.getCalculatedScore(), row.getAdjustedScore(),
+                        row.getAdjustmentReason(), row.getIsFinal(), row.getUpdatedAt()});
+    }
+
+    @Override
+    public StreamingResponseBody exportCommitSummaries(Long projectId, ReportFormat format) {
+        return export(projectId, format, "Commits",
+                new Object[]{"group", "author_email", "author_name", "commit_count", "valid_commit_count",
+                        "additions", "deletions", "first_commit_at", "last_commit_at"},
+                () -> commitRecordRepository.streamAuthorCommitSummaries(projectId),
+                row -> new Object[]{row.getGroupName(), row.getAuthorEmail(), row.getAuthorName(),
+                        row.getCommitCount(), row.getValidCommitCount(), row.getAdditions(), row.getDeletions(),
+                        row.getFirstCommitAt(), row.getLastCommitAt()});
+    }
+
+    /**
+     * Validate the request eagerly, then return a body that streams the rows of a forward-only cursor
+     * into a CSV/XLSX writer inside a read-only transaction. Rows are interface projections, so nothing
+     * accumulates in the persistence context.
+     */
+    private <T> StreamingResponseBody export(Long projectId, ReportFormat format, String sheetName, Object[] header,
+                                             Supplier<Stream<T>> rows, Function<T, Object[]> toCells) {
+        if (format != ReportFormat.CSV && format != ReportFormat.XLSX) {
+            throw new IllegalArgumentException("Exports are only available as CSV or XLSX");
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+
+        return out -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            try (TabularRowWriter writer = TabularRowWriter.create(format, out, sheetName)) {
+                writer.writeRow(header);
+                readOnly.executeWithoutResult(status -> {
+                    try (Stream<T> stream = rows.get()) {
+                        stream.forEach(row -> {
+                            try {
+                                writer.writeRow(toCells.apply(row));
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.warn("Export of project {} aborted: {}", projectId, e.getMessage());
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static Object zero(Object value) {
+        return value != null ? value : 0;
+    }
+}
@@ -1,12 +1,8 @@
 package com.itss.projectmanagement.service.impl;
 
+import com.itss.projectmanagement.dto.common.PaginationResponse;
 import com.itss.projectmanagement.dto.response.report.ProjectReportDTO;
-import com.itss.projectmanagement.entity.CommitRecord;
-import com.itss.projectmanagement.entity.ContributionScore;
-import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.Project;
-import com.itss.projectmanagement.entity.Task;
-import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.enums.TaskStatus;
 import com.itss.projectmanagement.exception.ResourceNotFoundException;
 import com.itss.projectmanagement.repository.CommitRecordRepository;
@@ -17,6 +13,9 @@ import com.itss.projectmanagement.repository.ProjectRepository;
 import com.itss.projectmanagement.repository.TaskRepository;
 import com.itss.projectmanagement.service.IReportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -27,6 +26,9 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class ReportServiceImpl implements IReportService {
+    // Max number of ids bound to one IN clause
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final ProjectRepository projectRepository;
     private final GroupRepository groupRepository;
     private final TaskRepository taskRepository;
@@ -36,6 +38,15 @@ public class ReportServiceImpl implements IReportService {
 
     @Override
     public ProjectReportDTO getProjectReport(Long projectId) {
+        return buildReport(projectId, Pageable.unpaged());
+    }
+
+    @Override
+    public ProjectReportDTO getProjectReport(Long projectId, int page, int size) {
+        return buildReport(projectId, PageRequest.of(page, size));
+    }
+
+    private ProjectReportDTO buildReport(Long projectId, Pageable pageable) {
         // Fetch project
         Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
@@ -45,103 +56,69 @@ public class ReportServiceImpl implements IReportService {
         report.setProjectId(project.getId());
         report.setProjectName(project.getName());
         
-        // Get all groups in the project
-        List<Group> groups = groupRepository.findByProject(project);
+        // Distinct members of the project groups (a user can only join one group in a project)
+        Page<GroupRepository.ProjectMember> members = groupRepository.findMembersByProjectId(projectId, pageable);
+        List<Long> memberIds = members.getContent().stream()
+            .map(GroupRepository.ProjectMember::getMemberId)
+            .toList();
         
-        // Find all members in the project groups
-        List<User> allMembers = new ArrayList<>();
-        for (Group group : groups) {
-            allMembers.addAll(group.getMembers());
+        // Every metric comes from one grouped query per chunk of members, keyed by member id
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Long> commitCounts = new HashMap<>();
+        Map<Long, TaskRepository.AssigneeCompletionSummary> taskSummaries = new HashMap<>();
+        Map<Long, Double> peerReviewAverages = new HashMap<>();
+        for (int from = 0; from < memberIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + ID_CHUNK_SIZE, memberIds.size()));
+            
+            contributionScoreRepository.findCalculatedScoresByProjectAndUserIds(projectId, chunk)
+                .forEach(score -> scores.put(score.getMemberId(), score.getScore()));
+            commitRecordRepository.countValidCommitsByAssigneeIn(projectId, chunk)
+                .forEach(count -> commitCounts.put(count.getMemberId(), count.getCommitCount()));
+            taskRepository.summarizeCompletionsByAssignee(projectId, chunk, TaskStatus.COMPLETED)
+                .forEach(summary -> taskSummaries.put(summary.getUserId(), summary));
+            peerReviewRepository.findAverageScoresByRevieweeIn(projectId, chunk)
+                .forEach(average -> peerReviewAverages.put(average.getUserId(), average.getAverageScore()));
         }
         
-        // Remove duplicates (in case a user is in multiple groups)
-        // actually a user can only join one group in a project
-        List<User> uniqueMembers = allMembers.stream()
-            .distinct()
-            .toList();
-        
         // Prepare member reports
         List<ProjectReportDTO.MemberReport> memberReports = new ArrayList<>();
-        
-        for (User member : uniqueMembers) {
+        for (GroupRepository.ProjectMember member : members.getContent()) {
+            Long memberId = member.getMemberId();
             ProjectReportDTO.MemberReport memberReport = new ProjectReportDTO.MemberReport();
-            memberReport.setMemberId(member.getId());
-            memberReport.setMemberName(member.getFullName());
+            memberReport.setMemberId(memberId);
+            memberReport.setMemberName(member.getMemberName());
             
-            // Get contribution score
-            ContributionScore score = contributionScoreRepository
-                .findByUserAndProject(member, project)
-                .orElse(null);
+            Double score = scores.get(memberId);
+            memberReport.setContributionScore(score != null ? score : 0.0);
             
-            if (score != null) {
-                memberReport.setContributionScore(score.getCalculatedScore() != null ? 
-                    score.getCalculatedScore() : 0.0);
-            } else {
-                memberReport.setContributionScore(0.0);
-            }
-            
-            // Count commits
-            Long commitCount = countCommitsForMember(member, groups);
+            Long commitCount = commitCounts.get(memberId);
             memberReport.setCommitCount(commitCount != null ? commitCount.intValue() : 0);
             
-            // Count completed and late tasks
-            Map<String, Integer> taskCounts = countTasksForMember(member, groups);
-            memberReport.setCompletedTasks(taskCounts.get("completed"));
-            memberReport.setLateTasks(taskCounts.get("late"));
+            // Completed tasks, and those completed after their deadline
+            TaskRepository.AssigneeCompletionSummary taskSummary = taskSummaries.get(memberId);
+            memberReport.setCompletedTasks(taskSummary != null ? taskSummary.getCompletedTasks().intValue() : 0);
+            memberReport.setLateTasks(taskSummary != null && taskSummary.getLateTasks() != null
+                ? taskSummary.getLateTasks().intValue() : 0);
             
-            // Get peer review average
-            Double peerReviewAvg = peerReviewRepository.findAverageScoreByRevieweeAndProject(member, project);
+            Double peerReviewAvg = peerReviewAverages.get(memberId);
             memberReport.setPeerReviewAvg(peerReviewAvg != null ? peerReviewAvg : 0.0);
             
             memberReports.add(memberReport);
         }
         
         report.setMembers(memberReports);
-        return report;
-    }
-    
-    private Long countCommitsForMember(User member, List<Group> groups) {
-        long count = 0L;
-        // Count commits by task assignee
-        for (Group group : groups) {
-            List<CommitRecord> groupCommits = commitRecordRepository.findByGroupAndValid(group, true);
-            for (CommitRecord commit : groupCommits) {
-                if (commit.getTask() != null && commit.getTask().getAssignee() != null &&
-                    commit.getTask().getAssignee().getId().equals(member.getId())) {
-                    count++;
-                }
-            }
-        }
-        return count;
-    }
-    
-    private Map<String, Integer> countTasksForMember(User member, List<Group> groups) {
-        int completedCount = 0;
-        int lateCount = 0;
-        
-        // Get all tasks for all groups
-        for (Group group : groups) {
-            List<Task> tasks = taskRepository.findByGroupAndAssignee(group, member);
-            
-            // Count completed and late tasks
-            for (Task task : tasks) {
-                if (task.getStatus() == TaskStatus.COMPLETED) {
-                    completedCount++;
-                    
-                    // Check if task was completed late
-                    if (task.getUpdatedAt() != null && 
-                        task.getDeadline() != null && 
-                        task.getUpdatedAt().toLocalDate().isAfter(task.getDeadline())) {
-                        lateCount++;
-                    }
-                }
-            }
+        if (pageable.isPaged()) {
+            report.setPagination(PaginationResponse.PaginationMeta.builder()
+                .page(members.getNumber())
+                .size(members.getSize())
+                .totalElements(members.getTotalElements())
+                .totalPages(members.getTotalPages())
+                .hasNext(members.hasNext())
+                .hasPrevious(members.hasPrevious())
+                .isFirst(members.isFirst())
+                .isLast(members.isLast())
+                .build());
         }
-        
-        Map<String, Integer> result = new HashMap<>();
-        result.put("completed", completedCount);
-        result.put("late", lateCount);
-        
-        return result;
+        return report;
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.itss.projectmanagement.service.impl;
 import com.itss.projectmanagement.dto.response.contribution.ContributionScoreResponse;
 import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO;
 import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO.*;
+import com.itss.projectmanagement.entity.ContributionScore;
 import com.itss.projectmanagement.entity.Group;
 import com.itss.projectmanagement.entity.Project;
 import com.itss.projectmanagement.entity.Task;
@@ -13,16 +14,29 @@ import com.itss.projectmanagement.enums.DifficultyLevel;
 import com.itss.projectmanagement.service.*;
 import com.itss.projectmanagement.utils.DateUtils;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class StatisticsServiceImpl implements IStatisticsService {
+    // Bounded pool shared by all dashboard requests; when saturated the caller computes the section itself
+    private static final int SECTION_THREADS = 6;
+    private static final int SECTION_QUEUE_CAPACITY = 120;
+
     @Autowired
     private IProjectService projectService;
     @Autowired
@@ -30,38 +44,131 @@ public class StatisticsServiceImpl implements IStatisticsService {
     @Autowired
     private GroupRepository groupRepository;
     @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ContributionScoreRepository contributionScoreRepository;
+    @Autowired
     private IContributionScoreService contributionScoreService;
     @Autowired
-    private IPressureScoreService pressureScoreService;
+    private IPressureAnalysisService pressureAnalysisService;
     @Autowired
     private IPeerReviewService peerReviewService;
     @Autowired
-    private IGitHubService gitHubService;
+    private IDailyActivityService dailyActivityService;
     @Autowired
     private ProjectRepository projectRepository;
 
+    private final ThreadPoolExecutor sectionExecutor = createSectionExecutor();
+
     public ProjectStatisticsDTO getProjectStatistics(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NoSuchElementException("Project not found with ID: " + projectId));
 
+        // Load groups, members, tasks and scores once; every section reads from this snapshot
+        ProjectData data = loadProjectData(project);
+
+        CompletableFuture<ProjectSummary> projectSummary = supplySection(() -> createProjectSummary(data));
+        CompletableFuture<TaskStatistics> taskStatistics = supplySection(() -> createTaskStatistics(data));
+        CompletableFuture<ContributionStatistics> contributionStatistics = supplySection(() -> createContributionStatistics(data));
+        CompletableFuture<PeerReviewStatistics> peerReviewStatistics = supplySection(() -> createPeerReviewStatistics(project));
+        CompletableFuture<PressureScoreAnalysis> pressureScoreAnalysis = supplySection(() -> createPressureScoreAnalysis(data));
+        CompletableFuture<TimeStatistics> timeStatistics = supplySection(() -> createTimeStatistics(data));
+
         return ProjectStatisticsDTO.builder()
-                .projectSummary(createProjectSummary(project))
-                .taskStatistics(createTaskStatistics(project))
-                .contributionStatistics(createContributionStatistics(project))
-                .peerReviewStatistics(createPeerReviewStatistics(project))
-                .pressureScoreAnalysis(createPressureScoreAnalysis(project))
-                .timeStatistics(createTimeStatistics(project))
+                .projectSummary(join(projectSummary))
+                .taskStatistics(join(taskStatistics))
+                .contributionStatistics(join(contributionStatistics))
+                .peerReviewStatistics(join(peerReviewStatistics))
+                .pressureScoreAnalysis(join(pressureScoreAnalysis))
+                .timeStatistics(join(timeStatistics))
                 .build();
     }
 
-    private ProjectSummary createProjectSummary(Project project) {
+    @PreDestroy
+    public void shutdownSectionExecutor() {
+        sectionExecutor.shutdown();
+    }
+
+    /**
+     * Shared data of one project, loaded with a fixed number of queries.
+     * Entities in the snapshot are only read through their own columns, so sections can run outside the request session.
+     */
+    private record ProjectData(Project project,
+                               List<Group> groups,
+                               Map<Long, List<User>> membersByGroup,
+                               List<Task> tasks,
+                               Map<Long, ContributionScore> scoresByUser) {
+
+        List<User> allMembers() {
+            return membersByGroup.values().stream().flatMap(List::stream).collect(Collectors.toList());
+        }
+    }
+
+    private ProjectData loadProjectData(Project project) {
         List<Group> groups = groupRepository.findByProject(project);
-        int totalGroups = groups.size();
+
+        // Group members (leaders are not included, same as Group.getMembers())
+        Map<Long, List<Long>> memberIdsByGroup = new LinkedHashMap<>();
+        groups.forEach(group -> memberIdsByGroup.put(group.getId(), new ArrayList<>()));
+        for (GroupRepository.GroupMembership membership : groupRepository.findMembershipsByProjectId(project.getId())) {
+            memberIdsByGroup.computeIfAbsent(membership.getGroupId(), id -> new ArrayList<>()).add(membership.getUserId());
+        }
+        Map<Long, User> users = userRepository.findAllById(memberIdsByGroup.values().stream()
+                        .flatMap(List::stream)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        Map<Long, List<User>> membersByGroup = new LinkedHashMap<>();
+        memberIdsByGroup.forEach((groupId, memberIds) -> membersByGroup.put(groupId, memberIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())));
+
+        List<Task> tasks = taskRepository.findByProject(project);
+
+        Map<Long, ContributionScore> scoresByUser = contributionScoreRepository.findByProject(project).stream()
+                .collect(Collectors.toMap(score -> score.getUser().getId(), score -> score, (first, second) -> first));
+
+        return new ProjectData(project, groups, membersByGroup, tasks, scoresByUser);
+    }
+
+    private <T> CompletableFuture<T> supplySection(Supplier<T> section) {
+        return CompletableFuture.supplyAsync(section, sectionExecutor);
+    }
+
+    private static <T> T join(CompletableFuture<T> section) {
+        try {
+            return section.join();
+        } catch (CompletionException e) {
+            // Surface the section's own exception instead of the wrapper
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ThreadPoolExecutor createSectionExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                SECTION_THREADS, SECTION_THREADS, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(SECTION_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "statistics-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private ProjectSummary createProjectSummary(ProjectData data) {
+        int totalGroups = data.groups().size();
 
         // Calculate total students (unique members across all groups)
-        Set<User> uniqueStudents = new HashSet<>();
-        for (Group group : groups) {
-            uniqueStudents.addAll(group.getMembers());
+        Set<Long> uniqueStudents = new HashSet<>();
+        for (List<User> members : data.membersByGroup().values()) {
+            members.forEach(member -> uniqueStudents.add(member.getId()));
         }
         int totalStudents = uniqueStudents.size();
 
@@ -69,7 +176,7 @@ public class StatisticsServiceImpl implements IStatisticsService {
         int avgGroupSize = totalGroups > 0 ? Math.round((float) totalStudents / totalGroups) : 0;
 
         // Calculate completion rate based on tasks
-        List<Task> allTasks = taskRepository.findByProject(project);
+        List<Task> allTasks = data.tasks();
         long completedTasks = allTasks.stream()
                 .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
                 .count();
@@ -83,8 +190,8 @@ public class StatisticsServiceImpl implements IStatisticsService {
                 .build();
     }
 
-    private TaskStatistics createTaskStatistics(Project project) {
-        List<Task> allTasks = taskRepository.findByProject(project);
+    private TaskStatistics createTaskStatistics(ProjectData data) {
+        List<Task> allTasks = data.tasks();
 
         // Count tasks by status
         Map<TaskStatus, Long> taskStatusCounts = allTasks.stream()
@@ -137,20 +244,29 @@ public class StatisticsServiceImpl implements IStatisticsService {
                 .build();
     }
 
-    private ContributionStatistics createContributionStatistics(Project project) {
-        List<Group> projectGroups = groupRepository.findByProject(project);
+    private ContributionStatistics createContributionStatistics(ProjectData data) {
+        Project project = data.project();
 
         // Get contribution scores for all students in the project
         Map<String, Double> studentScores = new HashMap<>();        
-        for (Group group : projectGroups) {
-            for (User student : group.getMembers()) {
+        for (User student : data.allMembers()) {
+            Double adjustedScore;
+            Double calculatedScore;
+            ContributionScore stored = data.scoresByUser().get(student.getId());
+            if (stored != null) {
+                adjustedScore = stored.getAdjustedScore();
+                calculatedScore = stored.getCalculatedScore();
+            } else {
+                // No stored score yet: fall back to the service, which calculates it
                 ContributionScoreResponse score = contributionScoreService.getScoreByUserAndProject(student, project);
-                // Use adjustedScore if it exists, otherwise use calculatedScore
-                Double contributionScore = score.getAdjustedScore() != null && score.getAdjustedScore() > 0 
-                    ? score.getAdjustedScore() 
-                    : score.getCalculatedScore();
-                studentScores.put(student.getUsername(), contributionScore);
+                adjustedScore = score.getAdjustedScore();
+                calculatedScore = score.getCalculatedScore();
             }
+            // Use adjustedScore if it exists, otherwise use calculatedScore
+            Double contributionScore = adjustedScore != null && adjustedScore > 0 
+                ? adjustedScore 
+                : calculatedScore;
+            studentScores.put(student.getUsername(), contributionScore);
         }
 
         // Calculate average contribution score
@@ -227,91 +343,34 @@ public class StatisticsServiceImpl implements IStatisticsService {
                 .build();
     }
 
-    private PressureScoreAnalysis createPressureScoreAnalysis(Project project) {
-        List<Group> groups = groupRepository.findByProject(project);
-        List<User> allStudents = new ArrayList<>();
-
-        for (Group group : groups) {
-            allStudents.addAll(group.getMembers());
-        }
-
-        // Calculate average pressure score
-        int totalPressure = 0;
-        int highPressureCount = 0;
-        for (User student : allStudents) {
-            int pressureScore = pressureScoreService.calculatePressureScore(student.getId(), project.getId());
-            totalPressure += pressureScore;
-
-            if (pressureScore > project.getPressureThreshold()) {
-                highPressureCount++;
-            }
-        }
-
-        int avgPressureScore = allStudents.isEmpty() ? 0 : totalPressure / allStudents.size();
-
-        // Get pressure trend over weeks
-        Map<Integer, List<Integer>> weeklyPressureScores = new HashMap<>();
-
-        // Get project start date
-        LocalDateTime projectStart = project.getCreatedAt();
-        LocalDateTime now = LocalDateTime.now();
-
-        // Calculate week numbers since project start
-        for (User student : allStudents) {
-            // Get pressure score history
-            Map<LocalDateTime, Integer> pressureHistory = pressureScoreService.getPressureScoreHistory(student.getId(), project.getId());
-
-            for (Map.Entry<LocalDateTime, Integer> entry : pressureHistory.entrySet()) {
-                int weekNumber = DateUtils.getWeeksBetween(projectStart, entry.getKey()) + 1;
-
-                weeklyPressureScores.computeIfAbsent(weekNumber, k -> new ArrayList<>())
-                        .add(entry.getValue());
-            }
-        }
-
-        // Calculate average pressure score for each week
-        List<PressureScoreAnalysis.PressureTrendPoint> pressureTrend = new ArrayList<>();
-        for (int week = 1; week <= 3; week++) {
-            List<Integer> weekScores = weeklyPressureScores.getOrDefault(week, Collections.emptyList());
-            int avgScore = weekScores.isEmpty() ? 0 :
-                    weekScores.stream().mapToInt(Integer::intValue).sum() / weekScores.size();
-
-            pressureTrend.add(PressureScoreAnalysis.PressureTrendPoint.builder()
-                    .week(week)
-                    .avgScore(avgScore)
-                    .build());
-        }
-
-        return PressureScoreAnalysis.builder()
-                .avgPressureScore(avgPressureScore)
-                .highPressureCount(highPressureCount)
-                .pressureTrend(pressureTrend)
-                .build();
+    private PressureScoreAnalysis createPressureScoreAnalysis(ProjectData data) {
+        // Read-only and cached per project: no pressure score history is written while viewing the dashboard
+        List<Long> memberIds = data.allMembers().stream().map(User::getId).collect(Collectors.toList());
+        return pressureAnalysisService.getPressureAnalysis(data.project(), memberIds);
     }
 
-    private TimeStatistics createTimeStatistics(Project project) {
-        // Get weekly activity for the project (tasks and commits)
-        LocalDateTime projectStart = project.getCreatedAt();
-        LocalDateTime now = LocalDateTime.now();
+    private TimeStatistics createTimeStatistics(ProjectData data) {
+        Project project = data.project();
+        // Get weekly activity for the project (tasks and commits), aligned to ISO weeks
+        LocalDate firstWeek = DateUtils.getIsoWeekStart(project.getCreatedAt());
+        LocalDate lastDay = firstWeek.plusWeeks(3).minusDays(1);
+
+        // Task and commit counts come pre-aggregated per day from the activity rollup
+        Map<LocalDate, long[]> weeklyTotals = new HashMap<>();
+        for (DailyActivityRepository.DayTotals day : dailyActivityService.getDailyTotals(project.getId(), firstWeek, lastDay)) {
+            long[] totals = weeklyTotals.computeIfAbsent(DateUtils.getIsoWeekStart(day.getDay().atStartOfDay()), week -> new long[2]);
+            totals[0] += day.getTasksCreated();
+            totals[1] += day.getCommitCount();
+        }
 
         List<TimeStatistics.WeeklyActivity> weeklyActivities = new ArrayList<>();
 
         for (int week = 1; week <= 3; week++) {
-            // Calculate date range for this week
-            LocalDateTime weekStart = projectStart.plusWeeks(week - 1);
-            LocalDateTime weekEnd = projectStart.plusWeeks(week);
-
-            // Count tasks created in this week
-            long taskCount = taskRepository.findByProjectAndCreatedAtBetween(
-                    project, weekStart, weekEnd).size();
-
-            // Count commits in this week
-            int commitCount = gitHubService.getCommitCountInDateRange(project.getId(), weekStart, weekEnd);
-
+            long[] totals = weeklyTotals.getOrDefault(firstWeek.plusWeeks(week - 1), new long[2]);
             weeklyActivities.add(TimeStatistics.WeeklyActivity.builder()
                     .week(week)
-                    .taskCount((int) taskCount)
-                    .commitCount(commitCount)
+                    .taskCount((int) totals[0])
+                    .commitCount((int) totals[1])
                     .build());
         }
 
@@ -319,4 +378,4 @@ public class StatisticsServiceImpl implements IStatisticsService {
                 .weeklyActivity(weeklyActivities)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,168 @@
+package com.itss.projectmanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itss.projectmanagement.dto.response.project.ProjectStatisticsDTO;
+import com.itss.projectmanagement.entity.ProjectStatisticsSnapshot;
+import com.itss.projectmanagement.exception.NotFoundException;
+import com.itss.projectmanagement.repository.ProjectRepository;
+import com.itss.projectmanagement.repository.ProjectStatisticsSnapshotRepository;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
+import com.itss.projectmanagement.service.IStatisticsService;
+import com.itss.projectmanagement.service.IStatisticsSnapshotService;
+import com.itss.projectmanagement.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsSnapshotServiceImpl implements IStatisticsSnapshotService {
+
+    private final IStatisticsService statisticsService;
+    private final IProjectDataVersionService projectDataVersionService;
+    private final ProjectStatisticsSnapshotRepository snapshotRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // Deserialized snapshots, reused while the stored snapshot has the same data version
+    private final Map<Long, LoadedSnapshot> loaded = new ConcurrentHashMap<>();
+    // One computation at a time per project
+    private final Map<Long, Object> refreshLocks = new ConcurrentHashMap<>();
+
+    @Override
+    public ProjectStatisticsDTO getProjectStatistics(Long projectId) {
+        long latestVersion = projectDataVersionService.getVersion(projectId);
+        Long storedVersion = snapshotRepository.findDataVersionByProjectId(projectId).orElse(null);
+
+        LoadedSnapshot snapshot;
+        if (storedVersion == null) {
+            // First view of this project: compute synchronously once, later changes are refreshed in the background
+            snapshot = refreshProject(projectId);
+        } else {
+            snapshot = loaded.get(projectId);
+            if (snapshot == null || snapshot.dataVersion() != storedVersion) {
+                snapshot = load(projectId);
+            }
+        }
+        return withSnapshotInfo(snapshot, Math.max(latestVersion, snapshot.dataVersion()));
+    }
+
+    @Override
+    public String getSnapshotTag(Long projectId) {
+        return snapshotRepository.findStateByProjectId(projectId)
+                .map(state -> state.getDataVersion() + "-" + state.getComputedAt().toLocalDate())
+                .orElse("none");
+    }
+
+    @Override
+    public void refreshStaleSnapshots() {
+        for (Long projectId : snapshotRepository.findStaleProjectIds(LocalDate.now().atStartOfDay())) {
+            try {
+                refreshProject(projectId);
+            } catch (Exception e) {
+                log.error("Error refreshing statistics snapshot for project {}: {}", projectId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private LoadedSnapshot refreshProject(Long projectId) {
+        synchronized (refreshLocks.computeIfAbsent(projectId, id -> new Object())) {
+            LoadedSnapshot current = loaded.get(projectId);
+            // Read the version before computing: changes committed meanwhile leave the snapshot stale, never ahead
+            long version = projectDataVersionService.getVersion(projectId);
+            if (current != null && current.dataVersion() >= version && isFromToday(current)
+                    && snapshotRepository.findDataVersionByProjectId(projectId).isPresent()) {
+                return current;
+            }
+
+            ProjectStatisticsDTO statistics = statisticsService.getProjectStatistics(projectId);
+            statistics.setSnapshot(null);
+            LocalDateTime computedAt = LocalDateTime.now();
+            String payload = serialize(statistics);
+
+            try {
+                TransactionUtils.requiresNew(transactionManager).executeWithoutResult(status -> {
+                    ProjectStatisticsSnapshot snapshot = snapshotRepository.findByProject_Id(projectId)
+                            .orElseGet(() -> ProjectStatisticsSnapshot.builder()
+                                    .project(projectRepository.getReferenceById(projectId))
+                                    .build());
+                    if (snapshot.getDataVersion() != null && snapshot.getDataVersion() > version) {
+                        return;
+                    }
+                    snapshot.setDataVersion(version);
+                    snapshot.setPayload(payload);
+                    snapshot.setComputedAt(computedAt);
+                    snapshotRepository.saveAndFlush(snapshot);
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another instance stored the first snapshot concurrently; ours is still valid to return
+                log.debug("Statistics snapshot of project {} was created concurrently", projectId);
+            }
+
+            LoadedSnapshot refreshed = new LoadedSnapshot(version, computedAt, statistics);
+            loaded.put(projectId, refreshed);
+            log.debug("Refreshed statistics snapshot of project {} at data version {}", projectId, version);
+            return refreshed;
+        }
+    }
+
+    private LoadedSnapshot load(Long projectId) {
+        ProjectStatisticsSnapshot snapshot = snapshotRepository.findByProject_Id(projectId)
+                .orElseThrow(() -> new NotFoundException("Statistics snapshot not found for project: " + projectId));
+        try {
+            LoadedSnapshot result = new LoadedSnapshot(snapshot.getDataVersion(), snapshot.getComputedAt(),
+                    objectMapper.readValue(snapshot.getPayload(), ProjectStatisticsDTO.class));
+            loaded.put(projectId, result);
+            return result;
+        } catch (JsonProcessingException e) {
+            // Payload written by an incompatible version of the DTO: rebuild it
+            log.warn("Unreadable statistics snapshot for project {}, recomputing: {}", projectId, e.getMessage());
+            return refreshProject(projectId);
+        }
+    }
+
+    private String serialize(ProjectStatisticsDTO statistics) {
+        try {
+            return objectMapper.writeValueAsString(statistics);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize project statistics", e);
+        }
+    }
+
+    private ProjectStatisticsDTO withSnapshotInfo(LoadedSnapshot snapshot, long latestVersion) {
+        // Copy the sections so the shared cached instance is never mutated
+        ProjectStatisticsDTO statistics = snapshot.statistics();
+        return ProjectStatisticsDTO.builder()
+                .projectSummary(statistics.getProjectSummary())
+                .taskStatistics(statistics.getTaskStatistics())
+                .contributionStatistics(statistics.getContributionStatistics())
+                .peerReviewStatistics(statistics.getPeerReviewStatistics())
+                .pressureScoreAnalysis(statistics.getPressureScoreAnalysis())
+                .timeStatistics(statistics.getTimeStatistics())
+                .snapshot(ProjectStatisticsDTO.SnapshotInfo.builder()
+                        .dataVersion(snapshot.dataVersion())
+                        .latestDataVersion(latestVersion)
+                        .computedAt(snapshot.computedAt())
+                        .stale(latestVersion > snapshot.dataVersion() || !isFromToday(snapshot))
+                        .build())
+                .build();
+    }
+
+    // The pressure analysis depends on the current date, so a snapshot from an earlier day is outdated
+    private boolean isFromToday(LoadedSnapshot snapshot) {
+        return !snapshot.computedAt().toLocalDate().isBefore(LocalDate.now());
+    }
+
+    private record LoadedSnapshot(long dataVersion, LocalDateTime computedAt, ProjectStatisticsDTO statistics) {
+    }
+}
@@ -12,16 +12,22 @@ import com.itss.projectmanagement.exception.ResourceNotFoundException;
 import com.itss.projectmanagement.repository.GroupRepository;
 import com.itss.projectmanagement.repository.TaskRepository;
 import com.itss.projectmanagement.repository.UserRepository;
+import com.itss.projectmanagement.service.IContributionAnomalyService;
+import com.itss.projectmanagement.service.IDailyActivityService;
+import com.itss.projectmanagement.service.IDailyActivityService.TaskFootprint;
 import com.itss.projectmanagement.service.INotificationService;
 import com.itss.projectmanagement.service.ITaskService;
+import com.itss.projectmanagement.service.TaskChangedEvent;
 import com.itss.projectmanagement.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,6 +41,9 @@ public class TaskServiceImpl implements ITaskService {
     private final UserRepository userRepository;
     private final TaskConverter taskConverter;
     private final INotificationService notificationService;
+    private final IContributionAnomalyService contributionAnomalyService;
+    private final IDailyActivityService dailyActivityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -68,6 +77,8 @@ public class TaskServiceImpl implements ITaskService {
         
         Task task = taskConverter.toEntity(request, group, assignee);
         Task savedTask = taskRepository.save(task);
+        dailyActivityService.recordTaskChange(null, TaskFootprint.of(savedTask));
+        eventPublisher.publishEvent(new TaskChangedEvent(List.of(group.getProject().getId())));
         
         if (assignee != null) {
             String title = "Bạn được giao nhiệm vụ mới";
@@ -86,6 +97,8 @@ public class TaskServiceImpl implements ITaskService {
 
         Group group = groupRepository.findById(request.getGroupId())
                 .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+        Long previousProjectId = task.getGroup().getProject().getId();
+        TaskFootprint previousFootprint = TaskFootprint.of(task);
         
         User assignee = null;
         String pressureWarning = null;
@@ -131,6 +144,8 @@ public class TaskServiceImpl implements ITaskService {
         }
         
         Task updatedTask = taskRepository.save(task);
+        dailyActivityService.recordTaskChange(previousFootprint, TaskFootprint.of(updatedTask));
+        eventPublisher.publishEvent(new TaskChangedEvent(new HashSet<>(List.of(previousProjectId, group.getProject().getId()))));
         return taskConverter.toResponse(updatedTask, pressureWarning);
     }
 
@@ -169,7 +184,11 @@ public class TaskServiceImpl implements ITaskService {
         
         // With cascading delete configured, this will automatically delete all comments
         // and remove references from commit records
+        Long projectId = task.getGroup().getProject().getId();
+        TaskFootprint previousFootprint = TaskFootprint.of(task);
         taskRepository.delete(task);
+        dailyActivityService.recordTaskChange(previousFootprint, null);
+        eventPublisher.publishEvent(new TaskChangedEvent(List.of(projectId)));
     }
 
     @Override
@@ -199,8 +218,11 @@ public class TaskServiceImpl implements ITaskService {
             System.out.println(pressureWarning);
         }
         
+        TaskFootprint previousFootprint = TaskFootprint.of(task);
         task.setAssignee(assignee);
         Task updatedTask = taskRepository.save(task);
+        dailyActivityService.recordTaskChange(previousFootprint, TaskFootprint.of(updatedTask));
+        eventPublisher.publishEvent(new TaskChangedEvent(List.of(project.getId())));
         
         String title = "Bạn được giao nhiệm vụ mới";
         String message = "Bạn vừa được giao task: '" + task.getTitle() + "' trong dự án '" + project.getName() + "'.";
@@ -229,6 +251,8 @@ public class TaskServiceImpl implements ITaskService {
         }
 
         TaskStatus oldStatus = task.getStatus();
+        LocalDateTime previousCompletedAt = task.getCompletedAt();
+        TaskFootprint previousFootprint = TaskFootprint.of(task);
         task.setStatus(status);
         
         // Set completedAt when status changes to COMPLETED
@@ -241,6 +265,13 @@ public class TaskServiceImpl implements ITaskService {
         }
         
         Task updatedTask = taskRepository.save(task);
+        dailyActivityService.recordTaskChange(previousFootprint, TaskFootprint.of(updatedTask));
+        eventPublisher.publishEvent(new TaskChangedEvent(List.of(task.getGroup().getProject().getId())));
+        if (status == TaskStatus.COMPLETED && oldStatus != TaskStatus.COMPLETED) {
+            contributionAnomalyService.onTaskCompleted(updatedTask);
+        } else if (oldStatus == TaskStatus.COMPLETED && status != TaskStatus.COMPLETED) {
+            contributionAnomalyService.onTaskReopened(updatedTask, previousCompletedAt);
+        }
         return taskConverter.toResponse(updatedTask);
     }
 
@@ -4,6 +4,8 @@ import com.itss.projectmanagement.dto.common.PaginationResponse;
 import com.itss.projectmanagement.entity.User;
 import com.itss.projectmanagement.repository.UserRepository;
 import com.itss.projectmanagement.enums.Role;
+import com.itss.projectmanagement.security.TokenVersionCache;
+import com.itss.projectmanagement.service.ILastLoginService;
 import com.itss.projectmanagement.service.IUserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -12,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.itss.projectmanagement.exception.ResourceNotFoundException;
 
 import java.time.LocalDateTime;
@@ -25,6 +28,10 @@ public class UserServiceImpl implements IUserService {
     private UserRepository userRepository;
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+    @Autowired
+    private ILastLoginService lastLoginService;
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
@@ -119,6 +126,15 @@ public class UserServiceImpl implements IUserService {
     }
 
     public User updateUser(User user) {
+        return updateUser(user, false);
+    }
+
+    @Override
+    @Transactional
+    public User updateUser(User user, boolean revokeTokens) {
+        if (revokeTokens) {
+            tokenVersionCache.revoke(user);
+        }
         // Only encode password if it has been changed (not already encoded)
         if (user.getPassword() != null && !user.getPassword().startsWith("$2a$")) {
             user.setPassword(passwordEncoder.encode(user.getPassword()));
@@ -131,11 +147,8 @@ public class UserServiceImpl implements IUserService {
     }
 
     @Override
-    public void updateLastLogin(String username) {
-        userRepository.findByUsername(username).ifPresent(user -> {
-            user.setLastLoginAt(LocalDateTime.now());
-            userRepository.save(user);
-        });
+    public void updateLastLogin(Long userId) {
+        lastLoginService.record(userId, LocalDateTime.now());
     }
 
     @Override
@@ -1,7 +1,10 @@
 package com.itss.projectmanagement.utils;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 
 public class DateUtils {
 
@@ -18,4 +21,13 @@ public class DateUtils {
         // Convert days to weeks (integer division)
         return (int) (days / 7);
     }
+
+    /**
+     * Get the first day (Monday) of the ISO week containing the given time
+     * @param dateTime The date time
+     * @return Monday of that ISO week
+     */
+    public static LocalDate getIsoWeekStart(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.itss.projectmanagement.utils;
+
+import com.itss.projectmanagement.entity.ProjectDataVersion;
+import com.itss.projectmanagement.service.IProjectDataVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Conditional GET support for views derived from project data.
+ * The ETag is built from the project data version, so an unchanged project is answered
+ * with 304 Not Modified before the view is computed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectDataETags {
+
+    private final IProjectDataVersionService projectDataVersionService;
+
+    /**
+     * Check the request against the current data version of a project.
+     * ETag and Last-Modified are added to the response in both cases.
+     *
+     * @param request The current request
+     * @param projectId The project the view is derived from
+     * @param view Name of the view including its parameters, so different views never share an ETag
+     * @return true if the client copy is current; the caller then returns null and a 304 is sent
+     */
+    public boolean checkNotModified(WebRequest request, Long projectId, String view) {
+        Optional<ProjectDataVersion> version = projectDataVersionService.findVersion(projectId);
+        long dataVersion = version.map(ProjectDataVersion::getDataVersion).orElse(0L);
+        long lastModified = version
+                .map(ProjectDataVersion::getUpdatedAt)
+                .map(updatedAt -> updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(-1L);
+
+        // Always revalidate instead of the default no-store, so the browser keeps the copy the ETag refers to
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+
+        String etag = "W/\"" + projectId + "-" + dataVersion + "-" + view + "\"";
+        return request.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,40 @@
+package com.itss.projectmanagement.utils;
+
+import com.itss.projectmanagement.enums.ReportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Forward-only writer of tabular exports; rows are written as they arrive so memory does not grow with the row count
+ */
+public interface TabularRowWriter extends Closeable {
+
+    /**
+     * Write one row; numbers are kept numeric, null values are left empty
+     * @param values The cell values of the row
+     */
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * Finish the document and flush it, without closing the underlying stream
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Create a writer for the given format
+     * @param format CSV or XLSX
+     * @param out The stream the export is written to
+     * @param sheetName Sheet name used by XLSX
+     * @return The row writer
+     */
+    static TabularRowWriter create(ReportFormat format, OutputStream out, String sheetName) {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case XLSX -> new XlsxRowWriter(out, sheetName);
+            default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.itss.projectmanagement.utils;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Utility class for running work relative to the current transaction
+ */
+public class TransactionUtils {
+
+    /**
+     * Run an action once the current transaction has committed.
+     * Without an active transaction the action runs right away; after a rollback it does not run.
+     * Inside an afterCommit callback no new synchronization can be registered, so callers
+     * that already run after commit should invoke the action directly.
+     * @param action The action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Create a template that always runs its callback in a new transaction
+     * @param transactionManager The transaction manager
+     * @return A REQUIRES_NEW transaction template
+     */
+    public static TransactionTemplate requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * Create a template that runs its callback in a read-only transaction
+     * @param transactionManager The transaction manager
+     * @return A read-only transaction template
+     */
+    public static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
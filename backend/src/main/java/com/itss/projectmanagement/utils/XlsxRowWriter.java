@@ -0,0 +1,70 @@
+package com.itss.projectmanagement.utils;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streaming single-sheet XLSX writer backed by POI SXSSF.
+ * Only a small window of rows is kept in memory; older rows are flushed to a compressed temporary file,
+ * so memory stays constant whatever the number of rows. Strings are stored inline (no shared string table).
+ */
+public class XlsxRowWriter implements TabularRowWriter {
+
+    // Rows kept in memory before being flushed to the temporary file
+    private static final int ROW_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowNumber;
+
+    public XlsxRowWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(sheetName, ' '));
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        Row row = sheet.createRow(rowNumber++);
+        for (int column = 0; column < values.length; column++) {
+            Object value = values[column];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(column);
+            if (value instanceof Number number && Double.isFinite(number.doubleValue())) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(truncate(value.toString()));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // Writes the whole package but leaves the response stream to its owner
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
+    }
+
+    private static String truncate(String text) {
+        int maxLength = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+        return text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+}
@@ -0,0 +1,89 @@
+package com.itss.projectmanagement.security;
+
+import com.itss.projectmanagement.entity.User;
+import com.itss.projectmanagement.enums.Role;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares verifyToken on tokens seen for the first time (signature check and claims parsing)
+ * with tokens already in the verified-token cache.
+ * Run with the main method, or with org.openjdk.jmh.Main on the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtTokenProviderBenchmark {
+
+    // Twice the cache capacity, so cycling through the pool never hits the least recently used cache
+    private static final int COLD_TOKENS = 20_000;
+
+    private JwtTokenProvider tokenProvider;
+    private String[] coldTokens;
+    private String cachedToken;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 86_400_000L);
+        tokenProvider.init();
+
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = tokenProvider.generateToken(user(i + 1L));
+        }
+        cachedToken = tokenProvider.generateToken(user(0L));
+        tokenProvider.verifyToken(cachedToken);
+    }
+
+    @Benchmark
+    public Claims verifyCold() {
+        String token = coldTokens[next];
+        next = (next + 1) % COLD_TOKENS;
+        return tokenProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return tokenProvider.verifyToken(cachedToken);
+    }
+
+    private static User user(Long id) {
+        User user = User.builder()
+                .username("student" + id)
+                .fullName("Student " + id)
+                .email("student" + id + "@example.com")
+                .roles(Set.of(Role.STUDENT))
+                .build();
+        user.setId(id);
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
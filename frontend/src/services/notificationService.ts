@@ -2,10 +2,12 @@ import axiosInstance from './axiosInstance';
 import { Notification, NotificationResponse, NotificationType } from '@/types/notification';
 
 class NotificationService {  // Retrieve all notifications for the current user
-  async getNotifications(): Promise<NotificationResponse> {
+  async getNotifications(cursor?: string, size = 20): Promise<NotificationResponse> {
     try {
-      // Call the backend API
-      const response = await axiosInstance.get('/api/notifications');
+      // Call the backend API; pass the nextCursor of a page to load the page after it
+      const response = await axiosInstance.get('/api/notifications', {
+        params: { cursor, size },
+      });
       return response.data;
     } catch (error) {
       console.error('Error getting notifications:', error);
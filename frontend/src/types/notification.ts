@@ -33,4 +33,6 @@ export interface NotificationResponse {
   message: string;
   data?: Notification[];
   unreadCount?: number;
+  nextCursor?: string | null;
+  hasMore?: boolean;
 }
@@ -70,6 +70,14 @@ export interface TimeStatistics {
   }[];
 }
 
+// Freshness of the materialized statistics
+export interface SnapshotInfo {
+  dataVersion: number;
+  latestDataVersion: number;
+  computedAt: string;
+  stale: boolean;
+}
+
 // Complete project statistics response
 export interface ProjectStatisticsResponse {
   projectSummary: ProjectSummary;
@@ -78,6 +86,7 @@ export interface ProjectStatisticsResponse {
   peerReviewStatistics: PeerReviewStatistics;
   pressureScoreAnalysis: PressureScoreAnalysis;
   timeStatistics: TimeStatistics;
+  snapshot?: SnapshotInfo;
 }
 
 // Group info